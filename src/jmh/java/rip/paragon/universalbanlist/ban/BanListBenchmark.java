@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+import rip.paragon.universalbanlist.benchmark.BanListGenerator;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @since October 17, 2026
+ * Benchmarks fetching and looking up bans once the ban list has been downloaded, for each size of ban list.
+ *
+ * The lookups follow the same paths as {@link BanListService#getBanEntries(UUID)}: reading the ban list lazily
+ * without a cache, and looking up the player in a {@link BanListSnapshot snapshot} in snapshot mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BanListBenchmark {
+
+    @Param({ "500", "50000", "500000" })
+    public int rows;
+
+    @Param({ "0.02" })
+    public double malformedRate;
+
+    /* The generated ban list */
+    private byte[] data;
+
+    /* A player in the middle of the ban list */
+    private UUID bannedPlayer;
+
+    /* A player who isn't on the ban list */
+    private UUID unbannedPlayer;
+
+    /* The pool used to parse the ban list in parallel */
+    private ForkJoinPool pool;
+
+    /* A snapshot of the ban list */
+    private BanListSnapshot snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BanListGenerator.GeneratedBanList banList = BanListGenerator.generate(this.rows, this.malformedRate, 0x55424CL);
+
+        this.data = banList.data;
+        this.bannedPlayer = banList.players.get(banList.players.size() / 2);
+        this.unbannedPlayer = new UUID(0L, 0L);
+        this.pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        this.snapshot = new BanListSnapshot(this.parse().entries);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Parses the whole ban list on one thread.
+     */
+    @Benchmark
+    public @NotNull BanListParser.Result parse() throws IOException {
+        return BanListParser.parse(this.data, this.data.length, null, 0, BanEntry.DEFAULT_SOURCE);
+    }
+
+    /**
+     * Parses the whole ban list in parallel, however small it is.
+     */
+    @Benchmark
+    public @NotNull BanListParser.Result parseParallel() throws IOException {
+        return BanListParser.parse(this.data, this.data.length, this.pool, 0, BanEntry.DEFAULT_SOURCE);
+    }
+
+    /**
+     * Parses the whole ban list, then creates a snapshot of it, like every refresh in snapshot mode.
+     */
+    @Benchmark
+    public @NotNull BanListSnapshot parseAndSnapshot() throws IOException {
+        return new BanListSnapshot(BanListParser.parse(this.data, this.data.length, this.pool, BanListParser.MIN_CHUNK_SIZE, BanEntry.DEFAULT_SOURCE).entries);
+    }
+
+    /**
+     * Reads a banned player's bans lazily, like a lookup without a cache.
+     */
+    @Benchmark
+    public @NotNull List<@NotNull BanEntry> lookupLazy() throws IOException {
+        List<BanEntry> entries = new ArrayList<>();
+
+        try (BanListReader reader = new BanListReader(new ByteArrayInputStream(this.data), BanListReader.FORMAT, Collections.singleton(this.bannedPlayer), BanEntry.DEFAULT_SOURCE)) {
+            reader.forEachRemaining(entries::add);
+        }
+
+        return entries;
+    }
+
+    /**
+     * Looks up a banned player in the snapshot.
+     */
+    @Benchmark
+    public @NotNull List<@NotNull BanEntry> lookupSnapshot() {
+        return this.snapshot.getBanEntries(this.bannedPlayer);
+    }
+
+    /**
+     * Looks up a player who isn't banned in the snapshot, which most players joining are.
+     */
+    @Benchmark
+    public @NotNull List<@NotNull BanEntry> lookupSnapshotUnbanned() {
+        return this.snapshot.getBanEntries(this.unbannedPlayer);
+    }
+
+}
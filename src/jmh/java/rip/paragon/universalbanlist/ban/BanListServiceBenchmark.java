@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+import rip.paragon.universalbanlist.benchmark.BanListGenerator;
+import rip.paragon.universalbanlist.benchmark.BenchmarkEnvironment;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @since October 17, 2026
+ * Benchmarks {@link BanListService#getBanEntries(UUID)} end to end, for each size of ban list and each way of caching it:
+ * - lazy: every lookup fetches the ban list and reads it lazily, only deserializing the player's rows
+ * - conditional: every lookup revalidates the ban list, which hasn't changed, and scans the previously parsed bans
+ * - snapshot: every lookup is answered from the snapshot without fetching the ban list
+ *
+ * The ban list is served from memory by a {@link BanListTransport transport} that supports conditional requests,
+ * so the results include the executors, the shared download and parsing, but not the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BanListServiceBenchmark {
+
+    /* The amount of players looked up at once by the batch lookup */
+    private static final int BATCH_SIZE = 100;
+
+    @Param({ "500", "50000", "500000" })
+    public int rows;
+
+    @Param({ "lazy", "conditional", "snapshot" })
+    public String mode;
+
+    /* The environment the service runs in */
+    private BenchmarkEnvironment environment;
+
+    /* A player in the middle of the ban list */
+    private UUID bannedPlayer;
+
+    /* A player who isn't on the ban list */
+    private UUID unbannedPlayer;
+
+    /* Players spread across the ban list, looked up together */
+    private List<UUID> batch;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BanListGenerator.GeneratedBanList banList = BanListGenerator.generate(this.rows, 0.02D, 0x55424CL);
+
+        this.bannedPlayer = banList.players.get(banList.players.size() / 2);
+        this.unbannedPlayer = new UUID(0L, 0L);
+        this.batch = new ArrayList<>(BATCH_SIZE);
+
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            this.batch.add(banList.players.get(i * banList.players.size() / BATCH_SIZE));
+        }
+
+        this.environment = new BenchmarkEnvironment(
+                this.mode.equals("snapshot") ? CacheMode.SNAPSHOT : CacheMode.NONE,
+                !this.mode.equals("lazy")
+        );
+
+        BanListService.INSTANCE.setEnvironment(this.environment);
+        BanListService.INSTANCE.setTransport(new MemoryTransport(banList.data));
+        BanListService.INSTANCE.setSources(Collections.singletonList(
+                new BanListSource(BanEntry.DEFAULT_SOURCE, new URL("https://ban-list.invalid/bans.csv"), 300L, 0)
+        ));
+
+        // Parse the ban list once, for the previously parsed bans or the snapshot
+        BanListService.INSTANCE.refreshSnapshot().join();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.environment.close();
+    }
+
+    /**
+     * Looks up a banned player.
+     */
+    @Benchmark
+    public @NotNull List<@NotNull BanEntry> getBanEntries() {
+        return BanListService.INSTANCE.getBanEntries(this.bannedPlayer).join();
+    }
+
+    /**
+     * Looks up a player who isn't banned, which most players joining are.
+     */
+    @Benchmark
+    public @NotNull List<@NotNull BanEntry> getBanEntriesUnbanned() {
+        return BanListService.INSTANCE.getBanEntries(this.unbannedPlayer).join();
+    }
+
+    /**
+     * Looks up many banned players at once, like auditing the online players.
+     */
+    @Benchmark
+    public @NotNull Map<@NotNull UUID, @NotNull List<@NotNull BanEntry>> getBanEntriesBatch() {
+        return BanListService.INSTANCE.getBanEntries(this.batch).join();
+    }
+
+    /**
+     * Serves a ban list from memory, answering conditional requests with 304 Not Modified since it never changes.
+     */
+    private static final class MemoryTransport implements BanListTransport {
+
+        /* The ETag of the ban list */
+        private static final String ENTITY_TAG = "\"1\"";
+
+        /* The ban list's CSV data */
+        private final @NotNull byte[] data;
+
+        MemoryTransport(@NotNull byte[] data) {
+            this.data = data;
+        }
+
+        @Override
+        public @NotNull Response fetch(
+                @NotNull URL url,
+                @Nullable String entityTag,
+                @Nullable String lastModified,
+                int connectTimeout,
+                int readTimeout
+        ) {
+            if (ENTITY_TAG.equals(entityTag)) {
+                return new Response(304, new byte[0], 0L, false, ENTITY_TAG, null, null);
+            }
+
+            return new Response(200, this.data, this.data.length, false, ENTITY_TAG, null, null);
+        }
+
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import rip.paragon.universalbanlist.benchmark.BanListGenerator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @since October 17, 2026
+ * Benchmarks deserializing {@link CSVRecord CSV records} that have already been parsed into {@link BanEntry ban entries}.
+ * Each invocation deserializes every record of a 500 row ban list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeserializeBenchmark {
+
+    /* The amount of records deserialized by each invocation */
+    private static final int ROWS = 500;
+
+    /* Well-formed records */
+    private List<CSVRecord> records;
+
+    /* Records of which roughly 1 in 10 are malformed */
+    private List<CSVRecord> malformedRecords;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.records = parse(BanListGenerator.generate(ROWS, 0.0D, 0x55424CL).data);
+        this.malformedRecords = parse(BanListGenerator.generate(ROWS, 0.1D, 0x55424CL).data);
+    }
+
+    private static List<CSVRecord> parse(byte[] data) throws IOException {
+        try (CSVParser parser = CSVParser.parse(new String(data, StandardCharsets.UTF_8), BanListReader.FORMAT)) {
+            return parser.getRecords();
+        }
+    }
+
+    /**
+     * Deserializes well-formed records.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void deserialize(Blackhole blackhole) throws IOException {
+        for (CSVRecord record : this.records) {
+            blackhole.consume(BanEntry.deserialize(record));
+        }
+    }
+
+    /**
+     * Decodes records of which some are malformed, like the Universal Ban List.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void decodeMalformed(Blackhole blackhole) {
+        for (CSVRecord record : this.malformedRecords) {
+            blackhole.consume(BanEntry.decode(record, BanEntry.DEFAULT_SOURCE));
+        }
+    }
+
+}
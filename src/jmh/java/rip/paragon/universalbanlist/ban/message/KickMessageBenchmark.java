@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban.message;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.joda.time.DateTime;
+import org.joda.time.Period;
+import org.openjdk.jmh.annotations.*;
+import rip.paragon.universalbanlist.ban.BanEntry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @since October 17, 2026
+ * Benchmarks building the kick message for a banned player, with the default templates.
+ * Compares rendering a template with getting the message from {@link KickMessages}, which caches it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KickMessageBenchmark {
+
+    private static final List<String> PERMANENT_LINES = Arrays.asList(
+            "&cYou are currently on the Universal Ban List.",
+            "&cReason: {reason}",
+            "&cDate banned: {banDate}",
+            "&cCase: {case}",
+            "&cThis ban never expires."
+    );
+
+    private static final List<String> TEMPORARY_LINES = Arrays.asList(
+            "&cYou are currently on the Universal Ban List.",
+            "&cReason: {reason}",
+            "&cDate banned: {banDate}",
+            "&cCase: {case}",
+            "&cExpires on {expireDate}"
+    );
+
+    private KickMessages kickMessages;
+    private KickMessageTemplate temporaryTemplate;
+    private BanEntry permanentBan;
+    private BanEntry temporaryBan;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        YamlConfiguration config = new YamlConfiguration();
+        config.set("kickMessages.permanent", PERMANENT_LINES);
+        config.set("kickMessages.temporary", TEMPORARY_LINES);
+        config.set("kickMessages.unavailable", Arrays.asList("&cWe couldn't check if you're on the Universal Ban List."));
+
+        DateTime banTime = new DateTime(2020, 7, 2, 0, 0);
+        UUID player = UUID.fromString("91ce6853-830a-4a7f-bce3-25858cd79cc2");
+
+        this.kickMessages = KickMessages.compile(config);
+        this.temporaryTemplate = KickMessageTemplate.compile(TEMPORARY_LINES);
+        this.permanentBan = new BanEntry("Suggesting", player, "Test ban reason", banTime, null, null, "https://redd.it/testurl");
+        this.temporaryBan = new BanEntry("Suggesting", player, "Test ban reason", banTime, Period.months(8), banTime.plusMonths(8), "https://redd.it/testurl");
+    }
+
+    /**
+     * Renders the template for a temporary ban, which has the most placeholders.
+     */
+    @Benchmark
+    public String renderTemporary() {
+        return this.temporaryTemplate.render(this.temporaryBan);
+    }
+
+    /**
+     * Gets the kick message for a permanent ban, like the login listener does.
+     */
+    @Benchmark
+    public String kickMessagePermanent() {
+        return this.kickMessages.getKickMessage(this.permanentBan);
+    }
+
+    /**
+     * Gets the kick message for a temporary ban, like the login listener does.
+     */
+    @Benchmark
+    public String kickMessageTemporary() {
+        return this.kickMessages.getKickMessage(this.temporaryBan);
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.benchmark;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * @since October 17, 2026
+ * Generates synthetic ban lists in the same CSV format as the Universal Ban List, for benchmarks.
+ *
+ * The ban lists have a mix of permanent and temporary bans, quoted reasons with commas, line breaks and escaped quotes,
+ * and a configurable rate of malformed rows. The same seed always generates the same ban list.
+ */
+public final class BanListGenerator {
+
+    private BanListGenerator() {}
+
+    /* The header of the ban list */
+    private static final String HEADER = "IGN,UUID,Reason,Date Banned,Length of Ban,Expiry Date,Case\r\n";
+
+    private static final String[] MONTHS = {
+            "January", "February", "March", "April", "May", "June",
+            "July", "August", "September", "October", "November", "December"
+    };
+
+    /**
+     * Generates a ban list.
+     * @param rows The amount of rows, not including the header
+     * @param malformedRate The fraction of rows that are malformed, from 0 to 1
+     * @param seed The seed of the random number generator
+     * @return The generated ban list
+     */
+    public static @NotNull GeneratedBanList generate(int rows, double malformedRate, long seed) {
+        Random random = new Random(seed);
+        StringBuilder builder = new StringBuilder(HEADER.length() + rows * 128);
+        List<UUID> players = new ArrayList<>(rows);
+
+        builder.append(HEADER);
+
+        for (int i = 0; i < rows; i++) {
+            UUID player = new UUID(random.nextLong(), random.nextLong());
+            String uuid = player.toString();
+            String banDate = String.format("\"%d %s, %d\"", 1 + random.nextInt(28), MONTHS[random.nextInt(12)], 2015 + random.nextInt(10));
+            String reason;
+
+            switch (random.nextInt(4)) {
+                case 0:
+                    reason = "\"Griefing, then lying about it\"";
+                    break;
+                case 1:
+                    reason = "\"Said \"\"hello\"\"\nover two lines\"";
+                    break;
+                default:
+                    reason = "Hacking";
+                    break;
+            }
+
+            // Malformed rows are split between the two most common kinds: bad UUIDs and bad dates
+            if (random.nextDouble() < malformedRate) {
+                if (random.nextBoolean()) {
+                    uuid = "not-a-uuid";
+                } else {
+                    banDate = "Sometime last year";
+                }
+            } else {
+                players.add(player);
+            }
+
+            if (random.nextBoolean()) {
+                builder.append(String.format("Player%d,%s,%s,%s,Permanent,Never,https://redd.it/%d", i, uuid, reason, banDate, i));
+            } else {
+                builder.append(String.format(
+                        "Player%d,%s,%s,%s,%d Months,\"%d %s, %d\",https://redd.it/%d",
+                        i, uuid, reason, banDate, 1 + random.nextInt(24), 1 + random.nextInt(28), MONTHS[random.nextInt(12)], 2020 + random.nextInt(10), i
+                ));
+            }
+
+            builder.append('\n');
+        }
+
+        return new GeneratedBanList(builder.toString().getBytes(StandardCharsets.UTF_8), Collections.unmodifiableList(players));
+    }
+
+    /**
+     * Represents a generated ban list.
+     */
+    public static final class GeneratedBanList {
+
+        /* The CSV data */
+        public final @NotNull byte[] data;
+
+        /* The players with well-formed bans, in the same order as the ban list */
+        public final @NotNull List<@NotNull UUID> players;
+
+        private GeneratedBanList(@NotNull byte[] data, @NotNull List<@NotNull UUID> players) {
+            this.data = data;
+            this.players = players;
+        }
+
+    }
+
+}
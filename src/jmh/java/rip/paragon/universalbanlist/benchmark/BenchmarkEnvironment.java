@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.benchmark;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import rip.paragon.universalbanlist.ban.BanListEnvironment;
+import rip.paragon.universalbanlist.ban.CacheMode;
+import rip.paragon.universalbanlist.ban.listener.FailurePolicy;
+import rip.paragon.universalbanlist.ban.message.KickMessages;
+import rip.paragon.universalbanlist.util.BoundedExecutor;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * @since October 17, 2026
+ * Runs the {@link rip.paragon.universalbanlist.ban.BanListService ban list service} without a server, for benchmarks.
+ * Sources can be fetched as often as they're looked up, nothing is saved to disk and only errors are logged, not malformed rows.
+ */
+public final class BenchmarkEnvironment implements BanListEnvironment {
+
+    private final @NotNull Logger logger = Logger.getLogger("UniversalBanList Benchmark");
+
+    private final @NotNull BoundedExecutor executor = new BoundedExecutor("UniversalBanList Benchmark", 4, 256, BoundedExecutor.RejectionPolicy.ABORT);
+
+    private final @NotNull BoundedExecutor fetchExecutor = new BoundedExecutor("UniversalBanList Benchmark Fetcher", 1, 16, BoundedExecutor.RejectionPolicy.ABORT);
+
+    private final @NotNull ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "UniversalBanList Benchmark Scheduler");
+        thread.setDaemon(true);
+
+        return thread;
+    });
+
+    private final @NotNull ForkJoinPool parsePool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    private final @NotNull KickMessages kickMessages;
+
+    private final @NotNull CacheMode cacheMode;
+
+    private final boolean conditionalRequests;
+
+    /**
+     * Creates an environment.
+     * @param cacheMode How bans are cached
+     * @param conditionalRequests If the ban list should only be parsed again if it has changed
+     */
+    public BenchmarkEnvironment(@NotNull CacheMode cacheMode, boolean conditionalRequests) {
+        YamlConfiguration config = new YamlConfiguration();
+        config.set("kickMessages.permanent", Collections.singletonList("Banned: {reason}"));
+        config.set("kickMessages.temporary", Collections.singletonList("Banned until {expireDate}: {reason}"));
+        config.set("kickMessages.unavailable", Collections.singletonList("Bans couldn't be checked"));
+
+        this.logger.setLevel(Level.SEVERE);
+        this.kickMessages = KickMessages.compile(config);
+        this.cacheMode = cacheMode;
+        this.conditionalRequests = conditionalRequests;
+    }
+
+    /**
+     * Stops every thread used by the environment.
+     */
+    public void close() {
+        this.executor.shutdownNow();
+        this.fetchExecutor.shutdownNow();
+        this.scheduler.shutdownNow();
+        this.parsePool.shutdownNow();
+    }
+
+    @Override
+    public @NotNull Logger getLogger() {
+        return this.logger;
+    }
+
+    @Override
+    public @NotNull File getDataFolder() {
+        return new File(System.getProperty("java.io.tmpdir"));
+    }
+
+    @Override
+    public void callEvent(@NotNull Event event) {
+        // Nothing listens to the ban list's events in benchmarks
+    }
+
+    @Override
+    public void runTaskLaterAsynchronously(@NotNull Runnable task, long delay) {
+        this.scheduler.schedule(task, delay, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public @Nullable Player getPlayer(@NotNull UUID uuid) {
+        // Nobody is online in benchmarks
+        return null;
+    }
+
+    @Override
+    public @NotNull BoundedExecutor getExecutor() {
+        return this.executor;
+    }
+
+    @Override
+    public @NotNull BoundedExecutor getFetchExecutor() {
+        return this.fetchExecutor;
+    }
+
+    @Override
+    public @Nullable ForkJoinPool getParsePool() {
+        return this.parsePool;
+    }
+
+    @Override
+    public int getParallelParseThreshold() {
+        return 1024 * 1024;
+    }
+
+    @Override
+    public @NotNull CacheMode getCacheMode() {
+        return this.cacheMode;
+    }
+
+    @Override
+    public boolean isConditionalRequests() {
+        return this.conditionalRequests;
+    }
+
+    @Override
+    public boolean isPersistSnapshot() {
+        return false;
+    }
+
+    @Override
+    public int getConnectTimeout() {
+        return 5000;
+    }
+
+    @Override
+    public int getReadTimeout() {
+        return 10000;
+    }
+
+    @Override
+    public long getMinimumFetchInterval() {
+        // Fetch the ban list on every lookup, so every lookup goes through the whole fetch path
+        return 0L;
+    }
+
+    @Override
+    public long getInitialBackoff() {
+        return TimeUnit.SECONDS.toMillis(30L);
+    }
+
+    @Override
+    public long getMaxBackoff() {
+        return TimeUnit.MINUTES.toMillis(30L);
+    }
+
+    @Override
+    public double getRefreshJitter() {
+        return 0.0D;
+    }
+
+    @Override
+    public int getEnforcementBatchSize() {
+        return 50;
+    }
+
+    @Override
+    public long getLoginTimeout() {
+        return 10000L;
+    }
+
+    @Override
+    public @NotNull FailurePolicy getFailurePolicy() {
+        return FailurePolicy.OPEN;
+    }
+
+    @Override
+    public @NotNull KickMessages getKickMessages() {
+        return this.kickMessages;
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @since October 17, 2026
+ * Benchmarks parsing the dates, durations and UUIDs on the ban list, comparing {@link TimeParsers} with the
+ * {@link TimeFormatters Joda-Time formatters} and {@link UUIDs} with {@link UUID#fromString(String)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimeParserBenchmark {
+
+    private static final String[] DATES = {
+            "2 July, 2020",
+            "31 December, 2049",
+            "14 February, 2018",
+            "9 September, 2015"
+    };
+
+    private static final String[] PERIODS = {
+            "8 Months",
+            "1 Year",
+            "12 Months, 2 Weeks",
+            "2 Years, 6 Months"
+    };
+
+    private static final String PLAYER = "91ce6853-830a-4a7f-bce3-25858cd79cc2";
+
+    /* The player in the UUID column, and another player */
+    private final UUID player = UUID.fromString(PLAYER);
+    private final UUID otherPlayer = new UUID(0L, 0L);
+
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public void parseDate(Blackhole blackhole) {
+        for (String date : DATES) {
+            blackhole.consume(TimeParsers.parseDate(date));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public void parseDateJoda(Blackhole blackhole) {
+        for (String date : DATES) {
+            blackhole.consume(TimeFormatters.DATE_FORMATTER.parseMillis(date));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public void parsePeriod(Blackhole blackhole) {
+        for (String period : PERIODS) {
+            blackhole.consume(TimeParsers.parsePeriod(period));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public void parsePeriodJoda(Blackhole blackhole) {
+        for (String period : PERIODS) {
+            blackhole.consume(TimeFormatters.DURATION_FORMATTER.parsePeriod(period));
+        }
+    }
+
+    /**
+     * Checks the UUID column against the player being looked up, like every record read by a lazy lookup.
+     */
+    @Benchmark
+    public boolean matchUUID() {
+        return UUIDs.matches(PLAYER, this.player);
+    }
+
+    /**
+     * Checks the UUID column against another player, which is what happens for almost every record.
+     */
+    @Benchmark
+    public boolean matchOtherUUID() {
+        return UUIDs.matches(PLAYER, this.otherPlayer);
+    }
+
+    @Benchmark
+    public UUID parseUUID() {
+        return UUIDs.parse(PLAYER);
+    }
+
+    @Benchmark
+    public UUID parseUUIDJdk() {
+        return UUID.fromString(PLAYER);
+    }
+
+}
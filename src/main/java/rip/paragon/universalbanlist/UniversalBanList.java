@@ -25,27 +25,93 @@
 package rip.paragon.universalbanlist;
 
 import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
-import rip.paragon.universalbanlist.ban.BanEntry;
+import org.jetbrains.annotations.Nullable;
 import rip.paragon.universalbanlist.ban.BanListService;
+import rip.paragon.universalbanlist.ban.BanListSource;
+import rip.paragon.universalbanlist.ban.BanListSnapshot;
+import rip.paragon.universalbanlist.ban.BanEntry;
+import rip.paragon.universalbanlist.ban.BanListEnvironment;
+import rip.paragon.universalbanlist.ban.CacheMode;
+import rip.paragon.universalbanlist.ban.ExpiryIndex;
+import rip.paragon.universalbanlist.ban.RefreshScheduler;
 import rip.paragon.universalbanlist.ban.listener.BanLoginListener;
+import rip.paragon.universalbanlist.ban.listener.FailurePolicy;
+import rip.paragon.universalbanlist.ban.listener.OnlineBanEnforcer;
+import rip.paragon.universalbanlist.ban.message.KickMessages;
+import rip.paragon.universalbanlist.command.AuditCommand;
+import rip.paragon.universalbanlist.command.StatsCommand;
 import rip.paragon.universalbanlist.command.VersionCommand;
+import rip.paragon.universalbanlist.metrics.PrometheusExporter;
+import rip.paragon.universalbanlist.util.BoundedExecutor;
 
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 
 /**
  * @author Levi Taylor
  * @since September 11, 2020
  * Represents the plugin's main class.
  */
-public class UniversalBanList extends JavaPlugin {
+public class UniversalBanList extends JavaPlugin implements BanListEnvironment {
 
     public static final String DEFAULT_BAN_LIST_URL = "https://docs.google.com/spreadsheet/ccc?key=0AjACyg1Jc3_GdEhqWU5PTEVHZDVLYWphd2JfaEZXd2c&output=csv";
 
     public static UniversalBanList INSTANCE;
 
+    /* The amount of milliseconds in a server tick */
+    private static final long MILLIS_PER_TICK = 50L;
+
+    /* The executor used to fetch the ban list and look up bans. Will be null while the plugin is disabled. */
+    private @Nullable BoundedExecutor executor;
+
+    /* The executor used to download the sources, with one thread for each source. Will be null while the plugin is disabled. */
+    private @Nullable BoundedExecutor fetchExecutor;
+
+    /* The pool used to parse large ban lists in parallel. Will be null if ban lists are parsed on one thread. */
+    private @Nullable ForkJoinPool parsePool;
+
+    /* The listener preventing banned players from logging in */
+    private final @NotNull BanLoginListener loginListener = new BanLoginListener(this);
+
+    /* The listener kicking online players when they're banned */
+    private final @NotNull OnlineBanEnforcer banEnforcer = new OnlineBanEnforcer(this);
+
+    /* The task enforcing new bans on online players. Will be null if online players aren't kicked. */
+    private @Nullable BukkitTask enforcerTask;
+
+    /* The cache mode, read when the plugin is enabled. Changing it takes effect the next time the plugin is enabled. */
+    private volatile @NotNull CacheMode cacheMode = CacheMode.NONE;
+
+    /* The failure policy. Read again whenever the configuration is reloaded. */
+    private volatile @NotNull FailurePolicy failurePolicy = FailurePolicy.OPEN;
+
+    /* The compiled kick messages. Recompiled whenever the configuration is reloaded. */
+    private volatile @Nullable KickMessages kickMessages;
+
+    /* The exporter serving the plugin's metrics to Prometheus. Will be null if it's disabled. */
+    private @Nullable PrometheusExporter prometheusExporter;
+
+    /* The tasks refreshing each source's part of the ban list snapshot. Will be empty if the cache mode isn't snapshot. */
+    private final @NotNull List<@NotNull RefreshScheduler> refreshSchedulers = new ArrayList<>();
+
     public UniversalBanList() {
         // Make sure JavaPlugin's constructor gets called
         super();
@@ -61,34 +127,289 @@ public class UniversalBanList extends JavaPlugin {
     public void onEnable() {
         super.saveDefaultConfig();
 
-        // Call this now in case the URL is malformed
-        this.getBanListURL();
+        // Compile the kick messages now so the first banned player doesn't have to
+        this.kickMessages = KickMessages.compile(super.getConfig());
+
+        // The service checks the cache mode and the login listener checks the failure policy on every lookup, so only read them once
+        this.cacheMode = this.readCacheMode();
+        this.failurePolicy = this.readFailurePolicy();
+
+        // Call this now in case any of the URLs are malformed
+        List<BanListSource> sources = this.getBanListSources();
+        BanListService.INSTANCE.setEnvironment(this);
+        BanListService.INSTANCE.setSources(sources);
+
+        // Create the executors before anything is fetched
+        this.executor = this.createExecutor();
+        this.fetchExecutor = new BoundedExecutor("UniversalBanList Fetcher", sources.size(), sources.size(), BoundedExecutor.RejectionPolicy.ABORT);
+        this.parsePool = this.createParsePool();
+
+        // Load the ban list saved the last time it was fetched, so bans can be enforced before it's fetched again
+        BanListSnapshot stored = BanListService.INSTANCE.loadStoredSnapshot();
+
+        if (stored != null) {
+            super.getLogger().info(String.format("Loaded %d bans from the saved ban list snapshot.", stored.getEntries().size()));
+        }
+
+        // Fetch the ban list. In snapshot mode, this also creates the first snapshot.
+        CompletableFuture<BanListSnapshot> initialFetch = this.getCacheMode() == CacheMode.SNAPSHOT
+                ? BanListService.INSTANCE.refreshSnapshot()
+                : BanListService.INSTANCE.retrieve().thenApply(BanListSnapshot::new);
 
         // Log some stats
-        BanListService.INSTANCE.retrieve().thenAccept(entries -> {
-            super.getLogger().info(String.format("There are %d total bans on the Universal Ban List.", entries.size()));
+        initialFetch.thenAccept(snapshot -> {
+            ExpiryIndex expiryIndex = snapshot.getExpiryIndex();
 
+            super.getLogger().info(String.format("There are %d total bans on the Universal Ban List.", snapshot.getEntries().size()));
+            super.getLogger().info(String.format("%d of those bans are active.", expiryIndex.getActiveCount()));
             super.getLogger().info(String.format(
-                    "%d of those bans are active.",
-                    entries.stream().filter(BanEntry::isActive).count()
+                    "%d of those bans expire within a week.",
+                    expiryIndex.getBansExpiringWithin(7L, TimeUnit.DAYS).size()
             ));
+
+            if (this.getCacheMode() == CacheMode.SNAPSHOT) {
+                super.getLogger().info(String.format("Player filter: %s", snapshot.getPlayerFilter()));
+            }
         }).exceptionally(throwable -> {
-            super.getLogger().severe("Couldn't fetch ban entries");
-            throwable.printStackTrace();
+            super.getLogger().log(Level.SEVERE, "Couldn't fetch ban entries", throwable);
 
             return null;
         });
 
+        // Only read the ban list again when its file changes
+        if (this.isWatchFile()) {
+            try {
+                BanListService.INSTANCE.startWatching();
+            } catch (IOException e) {
+                super.getLogger().log(Level.WARNING, "Couldn't watch the ban list file for changes", e);
+            }
+        }
+
+        // Keep the snapshot up to date, refreshing each source on its own schedule
+        if (this.getCacheMode() == CacheMode.SNAPSHOT) {
+            for (BanListSource source : sources) {
+                RefreshScheduler refreshScheduler = new RefreshScheduler(this, source);
+
+                refreshScheduler.start();
+                this.refreshSchedulers.add(refreshScheduler);
+            }
+        }
+
         // Register the login listener
-        super.getServer().getPluginManager().registerEvents(new BanLoginListener(), this);
+        super.getServer().getPluginManager().registerEvents(this.loginListener, this);
+
+        // Kick online players when they're banned. Only snapshot mode notices changes to the ban list.
+        if (this.getCacheMode() == CacheMode.SNAPSHOT && this.isKickOnlinePlayers()) {
+            super.getServer().getPluginManager().registerEvents(this.banEnforcer, this);
+            this.enforcerTask = super.getServer().getScheduler().runTaskTimer(this, this.banEnforcer, 1L, 1L);
+        }
 
         // Register commands
         super.getCommand("ublversion").setExecutor(new VersionCommand());
+        super.getCommand("ublaudit").setExecutor(new AuditCommand());
+        super.getCommand("ublstats").setExecutor(new StatsCommand());
+
+        // Serve the metrics to Prometheus
+        if (this.isPrometheusEnabled()) {
+            try {
+                this.prometheusExporter = PrometheusExporter.start(this.getPrometheusHost(), this.getPrometheusPort());
+                super.getLogger().info(String.format("Serving metrics at http://%s:%d/metrics", this.getPrometheusHost(), this.getPrometheusPort()));
+            } catch (IOException e) {
+                super.getLogger().log(Level.WARNING, String.format("Couldn't serve metrics on port %d", this.getPrometheusPort()), e);
+            }
+        }
+    }
+
+    @Override
+    public void onDisable() {
+        if (this.prometheusExporter != null) {
+            this.prometheusExporter.close();
+            this.prometheusExporter = null;
+        }
+
+        BanListService.INSTANCE.stopWatching();
+
+        if (this.enforcerTask != null) {
+            this.enforcerTask.cancel();
+            this.enforcerTask = null;
+        }
+
+        for (RefreshScheduler refreshScheduler : this.refreshSchedulers) {
+            refreshScheduler.stop();
+        }
+
+        this.refreshSchedulers.clear();
+
+        if (this.executor != null) {
+            this.executor.shutdown();
+
+            try {
+                // Give fetches in progress a chance to finish
+                if (!this.executor.awaitTermination(5L, TimeUnit.SECONDS)) {
+                    this.executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                this.executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+
+            this.executor = null;
+        }
+
+        if (this.fetchExecutor != null) {
+            this.fetchExecutor.shutdownNow();
+            this.fetchExecutor = null;
+        }
+
+        if (this.parsePool != null) {
+            this.parsePool.shutdownNow();
+            this.parsePool = null;
+        }
+    }
+
+    @Override
+    public void callEvent(@NotNull Event event) {
+        super.getServer().getPluginManager().callEvent(event);
+    }
+
+    @Override
+    public void runTaskLaterAsynchronously(@NotNull Runnable task, long delay) {
+        long ticks = Math.max(1L, (delay + MILLIS_PER_TICK - 1L) / MILLIS_PER_TICK);
+
+        super.getServer().getScheduler().runTaskLaterAsynchronously(this, task, ticks);
+    }
+
+    @Override
+    public @Nullable Player getPlayer(@NotNull UUID uuid) {
+        return super.getServer().getPlayer(uuid);
+    }
+
+    /**
+     * Gets the executor used to fetch the ban list and look up bans.
+     * @return The executor
+     * @throws IllegalStateException If the plugin isn't enabled.
+     */
+    public @NotNull BoundedExecutor getExecutor() {
+        BoundedExecutor executor = this.executor;
+
+        if (executor == null) {
+            throw new IllegalStateException("The plugin isn't enabled");
+        }
+
+        return executor;
+    }
+
+    /**
+     * Gets the executor used to download the sources.
+     * @return The fetch executor
+     * @throws IllegalStateException If the plugin isn't enabled.
+     */
+    public @NotNull BoundedExecutor getFetchExecutor() {
+        BoundedExecutor fetchExecutor = this.fetchExecutor;
+
+        if (fetchExecutor == null) {
+            throw new IllegalStateException("The plugin isn't enabled");
+        }
+
+        return fetchExecutor;
+    }
+
+    /**
+     * Creates the executor used to fetch the ban list and look up bans from the plugin's configuration file.
+     * @return The executor
+     */
+    private @NotNull BoundedExecutor createExecutor() {
+        String policy = super.getConfig().getString("executor.rejectionPolicy", "abort");
+        BoundedExecutor.RejectionPolicy rejectionPolicy;
+
+        if (policy.equalsIgnoreCase("callerRuns")) {
+            rejectionPolicy = BoundedExecutor.RejectionPolicy.CALLER_RUNS;
+        } else if (policy.equalsIgnoreCase("abort")) {
+            rejectionPolicy = BoundedExecutor.RejectionPolicy.ABORT;
+        } else {
+            super.getLogger().warning(String.format("Unknown rejection policy %s, using abort", policy));
+            rejectionPolicy = BoundedExecutor.RejectionPolicy.ABORT;
+        }
+
+        return new BoundedExecutor(
+                "UniversalBanList Worker",
+                Math.max(1, super.getConfig().getInt("executor.threads", 4)),
+                Math.max(1, super.getConfig().getInt("executor.queueSize", 256)),
+                rejectionPolicy
+        );
+    }
+
+    /**
+     * Gets the pool used to parse large ban lists in parallel.
+     * @return The parse pool, or null if ban lists should be parsed on one thread.
+     */
+    public @Nullable ForkJoinPool getParsePool() {
+        return this.parsePool;
+    }
+
+    /**
+     * Creates the pool used to parse large ban lists in parallel from the plugin's configuration file.
+     * @return The parse pool, or null if ban lists should be parsed on one thread.
+     */
+    private @Nullable ForkJoinPool createParsePool() {
+        int threads = super.getConfig().getInt("parse.threads", 0);
+
+        if (threads <= 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+
+        if (threads == 1) {
+            return null;
+        }
+
+        return new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("UniversalBanList Parser #" + thread.getPoolIndex());
+
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Gets the minimum size of a ban list to parse it in parallel from the plugin's configuration file.
+     * @return The threshold, in bytes
+     */
+    public int getParallelParseThreshold() {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(0L, super.getConfig().getLong("parse.parallelThreshold", 1024L)) * 1024L);
+    }
+
+    @Override
+    public void reloadConfig() {
+        super.reloadConfig();
+
+        this.kickMessages = KickMessages.compile(super.getConfig());
+        this.failurePolicy = this.readFailurePolicy();
+
+        // The snapshot, refresh schedulers and online ban enforcer were set up for the current cache mode
+        if (super.isEnabled() && this.readCacheMode() != this.cacheMode) {
+            super.getLogger().warning("The cache mode will change the next time the plugin is enabled");
+        }
+    }
+
+    /**
+     * Gets the compiled kick messages from the plugin's configuration file.
+     * @return The kick messages
+     */
+    public @NotNull KickMessages getKickMessages() {
+        KickMessages kickMessages = this.kickMessages;
+
+        if (kickMessages == null) {
+            kickMessages = this.kickMessages = KickMessages.compile(super.getConfig());
+        }
+
+        return kickMessages;
     }
 
     /**
      * Gets the ban list URL from the plugin's configuration file.
+     * Only used if the configuration file doesn't have a list of sources.
      * @return The ban list URL
+     * @see UniversalBanList#getBanListSources()
      */
     public @NotNull URL getBanListURL() {
         String url = super.getConfig().getString("url");
@@ -97,6 +418,61 @@ public class UniversalBanList extends JavaPlugin {
             url = DEFAULT_BAN_LIST_URL;
         }
 
+        return this.parseURL(url);
+    }
+
+    /**
+     * Gets the {@link BanListSource sources} to fetch bans from, from the plugin's configuration file.
+     * If the configuration file doesn't have a list of sources, the ban list URL is used as the only source.
+     * @return The sources, in order of precedence. Sources with duplicate names are skipped.
+     */
+    public @NotNull List<@NotNull BanListSource> getBanListSources() {
+        List<Map<?, ?>> sourceMaps = super.getConfig().getMapList("sources");
+
+        if (sourceMaps == null || sourceMaps.isEmpty()) {
+            List<BanListSource> sources = new ArrayList<>(1);
+            sources.add(new BanListSource(BanEntry.DEFAULT_SOURCE, this.getBanListURL(), this.getRefreshInterval(), 0));
+
+            return sources;
+        }
+
+        List<BanListSource> sources = new ArrayList<>(sourceMaps.size());
+        Set<String> names = new HashSet<>();
+
+        for (Map<?, ?> sourceMap : sourceMaps) {
+            Object name = sourceMap.get("name");
+            Object url = sourceMap.get("url");
+            Object refreshInterval = sourceMap.get("refreshInterval");
+
+            if (name == null || url == null) {
+                super.getLogger().warning("Skipping a source without a name or URL");
+                continue;
+            }
+
+            if (!names.add(name.toString())) {
+                super.getLogger().warning(String.format("Skipping the source %s, since there's already a source with that name", name));
+                continue;
+            }
+
+            sources.add(new BanListSource(
+                    name.toString(),
+                    this.parseURL(url.toString()),
+                    refreshInterval instanceof Number ? Math.max(1L, ((Number) refreshInterval).longValue()) : this.getRefreshInterval(),
+                    sources.size()
+            ));
+        }
+
+        if (sources.isEmpty()) {
+            super.getLogger().severe("None of the sources in the plugin's configuration are valid. Please check them and restart the server or reload the plugin.");
+            Bukkit.getPluginManager().disablePlugin(this);
+
+            throw new RuntimeException("No valid sources");
+        }
+
+        return sources;
+    }
+
+    private @NotNull URL parseURL(@NotNull String url) {
         try {
             return new URL(url);
         } catch (MalformedURLException e) {
@@ -107,4 +483,198 @@ public class UniversalBanList extends JavaPlugin {
         }
     }
 
+    /**
+     * Gets the {@link CacheMode cache mode} the plugin was enabled with.
+     * @return The cache mode. Will be {@link CacheMode#NONE none} if the configured mode was missing or invalid.
+     */
+    public @NotNull CacheMode getCacheMode() {
+        return this.cacheMode;
+    }
+
+    /**
+     * Reads the {@link CacheMode cache mode} from the plugin's configuration file.
+     * @return The cache mode. Will be {@link CacheMode#NONE none} if the configured mode is missing or invalid.
+     */
+    private @NotNull CacheMode readCacheMode() {
+        String mode = super.getConfig().getString("cache.mode", CacheMode.NONE.name());
+
+        try {
+            return CacheMode.valueOf(mode.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            super.getLogger().warning(String.format("Unknown cache mode %s, not caching bans", mode));
+
+            return CacheMode.NONE;
+        }
+    }
+
+    /**
+     * Gets how often the ban list snapshot should be refreshed from the plugin's configuration file.
+     * Used for sources that don't have their own refresh interval.
+     * @return The refresh interval, in seconds. Always at least 1.
+     */
+    public long getRefreshInterval() {
+        return Math.max(1L, super.getConfig().getLong("cache.refreshInterval", 300L));
+    }
+
+    /**
+     * Gets how far refreshes of the snapshot can be from the refresh interval from the plugin's configuration file.
+     * @return The jitter, as a fraction of the refresh interval from 0 to 1
+     */
+    public double getRefreshJitter() {
+        return Math.min(1.0D, Math.max(0.0D, super.getConfig().getDouble("cache.refreshJitter", 0.1D)));
+    }
+
+    /**
+     * Gets if conditional requests should be used when fetching the ban list from the plugin's configuration file.
+     * @return If the ban list should only be downloaded and parsed again if it has changed
+     */
+    public boolean isConditionalRequests() {
+        return super.getConfig().getBoolean("cache.conditionalRequests", true);
+    }
+
+    /**
+     * Gets if the ban list's file should be watched for changes from the plugin's configuration file.
+     * @return If a local ban list file should only be read again when it changes
+     */
+    public boolean isWatchFile() {
+        return super.getConfig().getBoolean("cache.watchFile", true);
+    }
+
+    /**
+     * Gets if the ban list should be saved to disk from the plugin's configuration file.
+     * @return If the last fetched ban list should be saved and loaded at startup
+     */
+    public boolean isPersistSnapshot() {
+        return super.getConfig().getBoolean("cache.persistSnapshot", true);
+    }
+
+    /**
+     * Gets the listener preventing banned players from logging in.
+     * @return The login listener
+     */
+    public @NotNull BanLoginListener getLoginListener() {
+        return this.loginListener;
+    }
+
+    /**
+     * Gets the listener kicking online players when they're banned.
+     * @return The ban enforcer
+     */
+    public @NotNull OnlineBanEnforcer getBanEnforcer() {
+        return this.banEnforcer;
+    }
+
+    /**
+     * Gets if online players should be kicked when they're banned from the plugin's configuration file.
+     * @return If online players should be kicked
+     */
+    public boolean isKickOnlinePlayers() {
+        return super.getConfig().getBoolean("enforcement.kickOnlinePlayers", true);
+    }
+
+    /**
+     * Gets the maximum amount of new bans to enforce on online players every tick from the plugin's configuration file.
+     * @return The batch size. Always at least 1.
+     */
+    public int getEnforcementBatchSize() {
+        return Math.max(1, super.getConfig().getInt("enforcement.batchSize", 50));
+    }
+
+    /**
+     * Gets the maximum time to wait for a player's bans to be checked when they log in from the plugin's configuration file.
+     * @return The login timeout, in milliseconds. Always at least 1.
+     */
+    public long getLoginTimeout() {
+        return Math.max(1L, super.getConfig().getLong("login.timeout", 3000L));
+    }
+
+    /**
+     * Gets the {@link FailurePolicy failure policy} the configuration was last loaded with.
+     * @return The failure policy. Will be {@link FailurePolicy#OPEN open} if the configured policy was missing or invalid.
+     */
+    public @NotNull FailurePolicy getFailurePolicy() {
+        return this.failurePolicy;
+    }
+
+    /**
+     * Reads the {@link FailurePolicy failure policy} from the plugin's configuration file.
+     * @return The failure policy. Will be {@link FailurePolicy#OPEN open} if the configured policy is missing or invalid.
+     */
+    private @NotNull FailurePolicy readFailurePolicy() {
+        String policy = super.getConfig().getString("login.failurePolicy", FailurePolicy.OPEN.name());
+
+        try {
+            return FailurePolicy.valueOf(policy.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            super.getLogger().warning(String.format("Unknown failure policy %s, letting players join", policy));
+
+            return FailurePolicy.OPEN;
+        }
+    }
+
+    /**
+     * Gets the connect timeout used when fetching the ban list from the plugin's configuration file.
+     * @return The connect timeout, in milliseconds. Always at least 1.
+     */
+    public int getConnectTimeout() {
+        return Math.max(1, super.getConfig().getInt("fetch.connectTimeout", 5000));
+    }
+
+    /**
+     * Gets the read timeout used when fetching the ban list from the plugin's configuration file.
+     * @return The read timeout, in milliseconds. Always at least 1.
+     */
+    public int getReadTimeout() {
+        return Math.max(1, super.getConfig().getInt("fetch.readTimeout", 10000));
+    }
+
+    /**
+     * Gets the minimum time between requests to each HTTP(S) source from the plugin's configuration file.
+     * @return The minimum interval, in milliseconds
+     */
+    public long getMinimumFetchInterval() {
+        return TimeUnit.SECONDS.toMillis(Math.max(0L, super.getConfig().getLong("fetch.minimumInterval", 5L)));
+    }
+
+    /**
+     * Gets how long to wait before contacting a source again after it fails from the plugin's configuration file.
+     * The delay doubles with each failure in a row.
+     * @return The initial backoff, in milliseconds. Always at least 1 second.
+     */
+    public long getInitialBackoff() {
+        return TimeUnit.SECONDS.toMillis(Math.max(1L, super.getConfig().getLong("fetch.backoff.initial", 30L)));
+    }
+
+    /**
+     * Gets the longest time to wait before contacting a source again after it fails from the plugin's configuration file.
+     * @return The maximum backoff, in milliseconds. Always at least the initial backoff.
+     */
+    public long getMaxBackoff() {
+        return Math.max(this.getInitialBackoff(), TimeUnit.SECONDS.toMillis(super.getConfig().getLong("fetch.backoff.max", 1800L)));
+    }
+
+    /**
+     * Gets if the metrics should be served to Prometheus from the plugin's configuration file.
+     * @return If the Prometheus endpoint is enabled
+     */
+    public boolean isPrometheusEnabled() {
+        return super.getConfig().getBoolean("metrics.prometheus.enabled", false);
+    }
+
+    /**
+     * Gets the address the Prometheus endpoint listens on from the plugin's configuration file.
+     * @return The address
+     */
+    public @NotNull String getPrometheusHost() {
+        return super.getConfig().getString("metrics.prometheus.host", "127.0.0.1");
+    }
+
+    /**
+     * Gets the port the Prometheus endpoint listens on from the plugin's configuration file.
+     * @return The port
+     */
+    public int getPrometheusPort() {
+        return super.getConfig().getInt("metrics.prometheus.port", 9225);
+    }
+
 }
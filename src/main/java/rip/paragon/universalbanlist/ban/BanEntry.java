@@ -29,40 +29,66 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.joda.time.DateTime;
 import org.joda.time.Period;
-import rip.paragon.universalbanlist.util.TimeFormatters;
+import rip.paragon.universalbanlist.util.TimeParsers;
+import rip.paragon.universalbanlist.util.UUIDs;
 
 import java.io.IOException;
-import java.util.Objects;
 import java.util.UUID;
 
 /**
  * @author Levi Taylor
  * @since September 12, 2020
  * Represents a ban entry. May be expired.
+ *
+ * To keep large ban lists small in memory, the UUID, dates and ban length are stored as primitives.
+ * The {@link UUID}, {@link DateTime} and {@link Period} are only created the first time their accessor is called, and then reused.
  */
 public final class BanEntry {
 
+    /* The expiry time of permanent bans */
+    public static final long PERMANENT_EXPIRY = Long.MAX_VALUE;
+
+    /* The ban length of permanent bans */
+    public static final long PERMANENT_LENGTH = -1L;
+
+    /* The name of the source used if the plugin's configuration only has one URL */
+    public static final String DEFAULT_SOURCE = "default";
+
     /* The Minecraft username at the time of the ban */
     public final @NotNull String username;
 
     /* The player UUID */
-    public final @NotNull UUID playerID;
+    private final long playerMostSigBits;
+    private final long playerLeastSigBits;
 
     /* The ban reason */
     public final @NotNull String reason;
 
-    /* The date/time of the ban */
-    public final @NotNull DateTime banTime;
+    /* The date/time of the ban, in milliseconds since the epoch */
+    private final long banTime;
 
-    /* The original length of the ban. Will be null if permanent. */
-    public final @Nullable Period banLength;
+    /* The original length of the ban, packed by TimeParsers. Will be PERMANENT_LENGTH if permanent. */
+    private final long banLength;
 
-    /* The time when the ban expires. Will be null if permanent. */
-    public final @Nullable DateTime expireDate;
+    /* The time when the ban expires, in milliseconds since the epoch. Will be PERMANENT_EXPIRY if permanent. */
+    private final long expireTime;
 
     /* The URL to the Reddit post regarding this case, in the format of https://redd.it/<uid> */
     public final @NotNull String caseURL;
 
+    /* The name of the ban list this ban came from */
+    public final @NotNull String source;
+
+    /* The player UUID, ban time, ban length and expiry date, created from the primitives the first time they're needed */
+    private @Nullable UUID playerID;
+    private @Nullable DateTime banDateTime;
+    private @Nullable Period banPeriod;
+    private @Nullable DateTime expireDate;
+
+    /**
+     * Creates a ban entry from the {@link BanEntry#DEFAULT_SOURCE default source}.
+     * @throws IllegalArgumentException If the ban length has days, hours or milliseconds, or an amount that's too large to store.
+     */
     public BanEntry(
             @NotNull String username,
             @NotNull UUID playerID,
@@ -71,14 +97,163 @@ public final class BanEntry {
             @Nullable Period banLength,
             @Nullable DateTime expireDate,
             @NotNull String caseURL
+    ) {
+        this(username, playerID, reason, banTime, banLength, expireDate, caseURL, DEFAULT_SOURCE);
+    }
+
+    /**
+     * Creates a ban entry.
+     * @throws IllegalArgumentException If the ban length has days, hours or milliseconds, or an amount that's too large to store.
+     */
+    public BanEntry(
+            @NotNull String username,
+            @NotNull UUID playerID,
+            @NotNull String reason,
+            @NotNull DateTime banTime,
+            @Nullable Period banLength,
+            @Nullable DateTime expireDate,
+            @NotNull String caseURL,
+            @NotNull String source
+    ) {
+        this(
+                username,
+                playerID.getMostSignificantBits(),
+                playerID.getLeastSignificantBits(),
+                reason,
+                banTime.getMillis(),
+                banLength != null ? packBanLength(banLength) : PERMANENT_LENGTH,
+                expireDate != null ? expireDate.getMillis() : PERMANENT_EXPIRY,
+                caseURL,
+                source
+        );
+    }
+
+    BanEntry(
+            @NotNull String username,
+            long playerMostSigBits,
+            long playerLeastSigBits,
+            @NotNull String reason,
+            long banTime,
+            long banLength,
+            long expireTime,
+            @NotNull String caseURL,
+            @NotNull String source
     ) {
         this.username = username;
-        this.playerID = playerID;
+        this.playerMostSigBits = playerMostSigBits;
+        this.playerLeastSigBits = playerLeastSigBits;
         this.reason = reason;
         this.banTime = banTime;
         this.banLength = banLength;
-        this.expireDate = expireDate;
+        this.expireTime = expireTime;
         this.caseURL = caseURL;
+        this.source = source;
+    }
+
+    /**
+     * Gets the UUID of the banned player.
+     * @return The player UUID
+     */
+    public @NotNull UUID getPlayerID() {
+        // UUID is immutable, so racing threads can at worst each create their own copy
+        UUID playerID = this.playerID;
+
+        if (playerID == null) {
+            this.playerID = playerID = new UUID(this.playerMostSigBits, this.playerLeastSigBits);
+        }
+
+        return playerID;
+    }
+
+    /**
+     * Gets if this ban is related to the specified player, without creating a {@link UUID}.
+     * @param uuid The player's UUID
+     * @return If the UUID is the banned player's UUID
+     */
+    public boolean isPlayer(@NotNull UUID uuid) {
+        return this.playerMostSigBits == uuid.getMostSignificantBits() && this.playerLeastSigBits == uuid.getLeastSignificantBits();
+    }
+
+    long getPlayerMostSigBits() {
+        return this.playerMostSigBits;
+    }
+
+    long getPlayerLeastSigBits() {
+        return this.playerLeastSigBits;
+    }
+
+    /**
+     * Gets the date/time of the ban.
+     * @return The ban time
+     */
+    public @NotNull DateTime getBanTime() {
+        DateTime banDateTime = this.banDateTime;
+
+        if (banDateTime == null) {
+            this.banDateTime = banDateTime = new DateTime(this.banTime);
+        }
+
+        return banDateTime;
+    }
+
+    /**
+     * Gets the date/time of the ban.
+     * @return The ban time, in milliseconds since the epoch.
+     */
+    public long getBanTimeMillis() {
+        return this.banTime;
+    }
+
+    /**
+     * Gets the original length of the ban.
+     * @return The ban length, or null if permanent.
+     */
+    public @Nullable Period getBanLength() {
+        if (this.banLength == PERMANENT_LENGTH) {
+            return null;
+        }
+
+        Period banPeriod = this.banPeriod;
+
+        if (banPeriod == null) {
+            this.banPeriod = banPeriod = TimeParsers.toPeriod(this.banLength);
+        }
+
+        return banPeriod;
+    }
+
+    /**
+     * Gets the original length of the ban, packed by {@link TimeParsers}.
+     * @return The packed ban length. Will be {@link BanEntry#PERMANENT_LENGTH} if permanent.
+     */
+    long getPackedBanLength() {
+        return this.banLength;
+    }
+
+    /**
+     * Gets the time when the ban expires.
+     * @return The expiry date, or null if permanent.
+     */
+    public @Nullable DateTime getExpireDate() {
+        if (this.expireTime == PERMANENT_EXPIRY) {
+            return null;
+        }
+
+        DateTime expireDate = this.expireDate;
+
+        if (expireDate == null) {
+            this.expireDate = expireDate = new DateTime(this.expireTime);
+        }
+
+        return expireDate;
+    }
+
+    /**
+     * Gets the time when the ban expires.
+     * @return The expiry time, in milliseconds since the epoch. Will be {@link BanEntry#PERMANENT_EXPIRY} if permanent.
+     */
+    public long getExpireTimeMillis() {
+        return this.expireTime;
     }
 
     /**
@@ -93,7 +268,7 @@ public final class BanEntry {
      *         If the ban is permanent, the result will be {@link Long#MAX_VALUE max value}.
      */
     public long getRemainingTime() {
-        return this.expireDate != null ? this.expireDate.getMillis() - System.currentTimeMillis() : Long.MAX_VALUE;
+        return this.expireTime != PERMANENT_EXPIRY ? this.expireTime - System.currentTimeMillis() : Long.MAX_VALUE;
     }
 
     /**
@@ -105,7 +280,7 @@ public final class BanEntry {
      * @return If this ban is active
      */
     public boolean isActive() {
-        return this.expireDate == null || DateTime.now().isBefore(this.expireDate);
+        return System.currentTimeMillis() < this.expireTime;
     }
 
     /**
@@ -113,7 +288,7 @@ public final class BanEntry {
      * @return If this ban is permanent
      */
     public boolean isPermanent() {
-        return this.expireDate == null;
+        return this.expireTime == PERMANENT_EXPIRY;
     }
 
     @Override
@@ -124,41 +299,62 @@ public final class BanEntry {
 
         BanEntry entry = (BanEntry) o;
 
-        return this.username.equals(entry.username) &&
-                this.playerID.equals(entry.playerID) &&
+        return this.playerMostSigBits == entry.playerMostSigBits &&
+                this.playerLeastSigBits == entry.playerLeastSigBits &&
+                this.banTime == entry.banTime &&
+                this.banLength == entry.banLength &&
+                this.expireTime == entry.expireTime &&
+                this.username.equals(entry.username) &&
                 this.reason.equals(entry.reason) &&
-                this.banTime.equals(entry.banTime) &&
-                Objects.equals(this.banLength, entry.banLength) &&
-                Objects.equals(this.expireDate, entry.expireDate) &&
-                this.caseURL.equals(entry.caseURL);
+                this.caseURL.equals(entry.caseURL) &&
+                this.source.equals(entry.source);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(
-                this.username,
-                this.playerID,
-                this.reason,
-                this.banTime,
-                this.banLength,
-                this.expireDate,
-                this.caseURL
-        );
+        int result = this.username.hashCode();
+
+        result = 31 * result + Long.hashCode(this.playerMostSigBits ^ this.playerLeastSigBits);
+        result = 31 * result + this.reason.hashCode();
+        result = 31 * result + Long.hashCode(this.banTime);
+        result = 31 * result + Long.hashCode(this.banLength);
+        result = 31 * result + Long.hashCode(this.expireTime);
+        result = 31 * result + this.caseURL.hashCode();
+        result = 31 * result + this.source.hashCode();
+
+        return result;
     }
 
     @Override
     public String toString() {
         return "BanEntry{" +
                 "username='" + this.username + '\'' +
-                ", playerID=" + this.playerID +
+                ", playerID=" + this.getPlayerID() +
                 ", reason='" + this.reason + '\'' +
-                ", banTime=" + this.banTime +
-                ", banLength=" + this.banLength +
-                ", expireDate=" + this.expireDate +
+                ", banTime=" + this.getBanTime() +
+                ", banLength=" + this.getBanLength() +
+                ", expireDate=" + this.getExpireDate() +
                 ", caseURL='" + this.caseURL + '\'' +
+                ", source='" + this.source + '\'' +
                 '}';
     }
 
+    /**
+     * Packs a {@link Period period} the same way {@link TimeParsers} packs durations.
+     * @param period The period
+     * @return The packed period
+     * @throws IllegalArgumentException If the period can't be packed.
+     */
+    private static long packBanLength(@NotNull Period period) {
+        long packed = TimeParsers.packPeriod(period);
+
+        if (packed == TimeParsers.INVALID_PERIOD) {
+            throw new IllegalArgumentException("Unsupported ban length " + period);
+        }
+
+        return packed;
+    }
+
     /* The header used in CSV parsing */
     public static final String[] RECORD_MAPPINGS = {
             "IGN",
@@ -175,12 +371,35 @@ public final class BanEntry {
      * @param record The {@link CSVRecord CSV record} containing ban data
      * @return The {@link BanEntry ban entry} instance, with the data parsed from the {@link CSVRecord CSV record}.
      * @throws IOException If any data in the {@link CSVRecord CSV record} provided is considered invalid.
+     * @see BanEntry#decode(CSVRecord, String)
      */
     public static @NotNull BanEntry deserialize(@NotNull CSVRecord record) throws IOException {
-        // Ensure all records are mapped before continuing on
+        DecodeResult result = decode(record, DEFAULT_SOURCE);
+
+        if (result.entry == null) {
+            throw new IOException(String.format("Couldn't deserialize row %d: %s", result.rowNumber, result.failure.description));
+        }
+
+        return result.entry;
+    }
+
+    /**
+     * Decodes a {@link CSVRecord CSV record} into a {@link BanEntry ban entry}.
+     *
+     * Unlike {@link BanEntry#deserialize(CSVRecord)}, this method doesn't throw an exception if the record is malformed,
+     * so it's much cheaper when reading ban lists with a lot of malformed records.
+     *
+     * @param record The {@link CSVRecord CSV record} containing ban data
+     * @param source The name of the ban list the record is from
+     * @return The {@link DecodeResult result}, containing either the {@link BanEntry ban entry} or the reason the record is malformed.
+     */
+    public static @NotNull DecodeResult decode(@NotNull CSVRecord record, @NotNull String source) {
+        long rowNumber = record.getRecordNumber();
+
+        // Ensure all records are present before continuing on
         for (String mapping : RECORD_MAPPINGS) {
-            if (!record.isMapped(mapping)) {
-                throw new IOException(String.format("Mapping %s is not present", mapping));
+            if (!record.isSet(mapping)) {
+                return DecodeResult.failure(DecodeFailure.MISSING_COLUMN, rowNumber);
             }
         }
 
@@ -190,50 +409,61 @@ public final class BanEntry {
         String username = record.get("IGN");
 
         // Player UUID
-        UUID playerID;
-        try {
-            playerID = UUID.fromString(record.get("UUID"));
-        } catch (IllegalArgumentException e) {
-            throw new IOException("Invalid UUID " + record.get("UUID"), e);
+        UUID playerID = UUIDs.parse(record.get("UUID"));
+
+        if (playerID == null) {
+            return DecodeResult.failure(DecodeFailure.INVALID_UUID, rowNumber);
         }
 
         // Ban reason
         String reason = record.get("Reason");
 
         // Date banned
-        DateTime dateBanned;
+        long dateBanned = TimeParsers.parseDate(record.get("Date Banned"));
 
-        try {
-            dateBanned = TimeFormatters.DATE_FORMATTER.parseDateTime(record.get("Date Banned"));
-        } catch (IllegalArgumentException e) {
-            throw new IOException("Couldn't parse ban date", e);
+        if (dateBanned == TimeParsers.INVALID_DATE) {
+            return DecodeResult.failure(DecodeFailure.INVALID_BAN_DATE, rowNumber);
         }
 
         // Ban length
-        Period banLength = null;
+        long banLength = PERMANENT_LENGTH;
 
         if (!record.get("Length of Ban").equals("Permanent")) {
-            try {
-                banLength = TimeFormatters.DURATION_FORMATTER.parsePeriod(record.get("Length of Ban"));
-            } catch (IllegalArgumentException e) {
-                throw new IOException("Couldn't parse ban length", e);
+            banLength = TimeParsers.parsePeriod(record.get("Length of Ban"));
+
+            if (banLength == TimeParsers.INVALID_PERIOD) {
+                return DecodeResult.failure(DecodeFailure.INVALID_BAN_LENGTH, rowNumber);
             }
         }
 
         // Expiry date
-        DateTime expireDate = null;
+        long expireDate = PERMANENT_EXPIRY;
+
         if (!record.get("Expiry Date").equals("Never")) {
-            try {
-                expireDate = TimeFormatters.DATE_FORMATTER.parseDateTime(record.get("Expiry Date"));
-            } catch (IllegalArgumentException e) {
-                throw new IOException("Couldn't parse expiry date");
+            expireDate = TimeParsers.parseDate(record.get("Expiry Date"));
+
+            if (expireDate == TimeParsers.INVALID_DATE) {
+                return DecodeResult.failure(DecodeFailure.INVALID_EXPIRY_DATE, rowNumber);
             }
         }
 
         // Case URL
         String caseURL = record.get("Case");
 
-        return new BanEntry(username, playerID, reason, dateBanned, banLength, expireDate, caseURL);
+        return DecodeResult.success(
+                new BanEntry(
+                        username,
+                        playerID.getMostSignificantBits(),
+                        playerID.getLeastSignificantBits(),
+                        reason,
+                        dateBanned,
+                        banLength,
+                        expireDate,
+                        caseURL,
+                        source
+                ),
+                rowNumber
+        );
     }
 
 }
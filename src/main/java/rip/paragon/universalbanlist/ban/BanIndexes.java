@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * @since October 17, 2026
+ * Secondary indexes of a {@link BanListSnapshot snapshot}, used to run {@link BanQuery queries} without checking every ban.
+ */
+final class BanIndexes {
+
+    /* The bans grouped by case-folded username */
+    private final @NotNull Map<@NotNull String, @NotNull List<@NotNull BanEntry>> entriesByUsername = new HashMap<>();
+
+    /* The bans grouped by case URL */
+    private final @NotNull Map<@NotNull String, @NotNull List<@NotNull BanEntry>> entriesByCaseURL = new HashMap<>();
+
+    /* Every ban sorted by case-folded username, and the case-folded usernames in the same order */
+    private final @NotNull BanEntry[] entriesSortedByUsername;
+    private final @NotNull String[] sortedUsernames;
+
+    /* Every ban sorted by ban time, and the ban times in the same order */
+    private final @NotNull BanEntry[] entriesSortedByBanTime;
+    private final long[] sortedBanTimes;
+
+    BanIndexes(@NotNull List<@NotNull BanEntry> entries) {
+        String[] usernames = new String[entries.size()];
+
+        for (int i = 0; i < usernames.length; i++) {
+            BanEntry entry = entries.get(i);
+
+            usernames[i] = BanQuery.foldCase(entry.username);
+            this.entriesByUsername.computeIfAbsent(usernames[i], username -> new ArrayList<>(1)).add(entry);
+            this.entriesByCaseURL.computeIfAbsent(entry.caseURL, caseURL -> new ArrayList<>(1)).add(entry);
+        }
+
+        // Sort the indices instead of the bans, so each username is only case-folded once
+        Integer[] order = new Integer[usernames.length];
+
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+
+        Arrays.sort(order, Comparator.comparing(i -> usernames[i]));
+
+        this.entriesSortedByUsername = new BanEntry[order.length];
+        this.sortedUsernames = new String[order.length];
+
+        for (int i = 0; i < order.length; i++) {
+            this.entriesSortedByUsername[i] = entries.get(order[i]);
+            this.sortedUsernames[i] = usernames[order[i]];
+        }
+
+        this.entriesSortedByBanTime = entries.toArray(new BanEntry[0]);
+        Arrays.sort(this.entriesSortedByBanTime, Comparator.comparingLong(BanEntry::getBanTimeMillis));
+
+        this.sortedBanTimes = new long[this.entriesSortedByBanTime.length];
+
+        for (int i = 0; i < this.sortedBanTimes.length; i++) {
+            this.sortedBanTimes[i] = this.entriesSortedByBanTime[i].getBanTimeMillis();
+        }
+    }
+
+    /**
+     * Gets the bans where the player had the specified username when they were banned.
+     * @param username The case-folded username
+     * @return The bans, in the same order as the snapshot
+     */
+    @NotNull List<@NotNull BanEntry> getByUsername(@NotNull String username) {
+        return this.entriesByUsername.getOrDefault(username, Collections.emptyList());
+    }
+
+    /**
+     * Gets the bans with the specified case URL.
+     * @param caseURL The case URL
+     * @return The bans, in the same order as the snapshot
+     */
+    @NotNull List<@NotNull BanEntry> getByCaseURL(@NotNull String caseURL) {
+        return this.entriesByCaseURL.getOrDefault(caseURL, Collections.emptyList());
+    }
+
+    /**
+     * Gets the bans where the player's username when they were banned starts with the specified prefix.
+     * @param prefix The case-folded start of the username
+     * @return The bans, sorted by username
+     */
+    @NotNull List<@NotNull BanEntry> getByUsernamePrefix(@NotNull String prefix) {
+        int start = Arrays.binarySearch(this.sortedUsernames, prefix);
+
+        // Find the first username that's equal to or after the prefix
+        if (start < 0) {
+            start = -start - 1;
+        } else {
+            while (start > 0 && this.sortedUsernames[start - 1].equals(prefix)) {
+                start--;
+            }
+        }
+
+        int end = start;
+
+        while (end < this.sortedUsernames.length && this.sortedUsernames[end].startsWith(prefix)) {
+            end++;
+        }
+
+        return Arrays.asList(this.entriesSortedByUsername).subList(start, end);
+    }
+
+    /**
+     * Gets the bans made within the specified range of time.
+     * @param from The start of the range (inclusive), in milliseconds since the epoch
+     * @param until The end of the range (exclusive), in milliseconds since the epoch
+     * @return The bans, sorted by ban time
+     */
+    @NotNull List<@NotNull BanEntry> getByBanTime(long from, long until) {
+        int start = this.indexOf(from);
+        int end = Math.max(start, this.indexOf(until));
+
+        return Arrays.asList(this.entriesSortedByBanTime).subList(start, end);
+    }
+
+    /**
+     * Finds the first ban made at or after the specified time.
+     * @param time The time, in milliseconds since the epoch
+     * @return The index of the first ban made at or after the time, or the amount of bans if there isn't one.
+     */
+    private int indexOf(long time) {
+        int low = 0;
+        int high = this.sortedBanTimes.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (this.sortedBanTimes[middle] < time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+}
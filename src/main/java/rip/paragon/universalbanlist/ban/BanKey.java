@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @since October 17, 2026
+ * The key used to match bans, by their player's UUID and case URL.
+ * Used to match bans between snapshots, and to find the same ban on more than one ban list.
+ */
+final class BanKey {
+
+    private final long playerMostSigBits;
+    private final long playerLeastSigBits;
+    private final @NotNull String caseURL;
+
+    BanKey(@NotNull BanEntry entry) {
+        this.playerMostSigBits = entry.getPlayerMostSigBits();
+        this.playerLeastSigBits = entry.getPlayerLeastSigBits();
+        this.caseURL = entry.caseURL;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+
+        if (o == null || this.getClass() != o.getClass()) return false;
+
+        BanKey key = (BanKey) o;
+
+        return this.playerMostSigBits == key.playerMostSigBits &&
+                this.playerLeastSigBits == key.playerLeastSigBits &&
+                this.caseURL.equals(key.caseURL);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(this.playerMostSigBits ^ this.playerLeastSigBits) + this.caseURL.hashCode();
+    }
+
+}
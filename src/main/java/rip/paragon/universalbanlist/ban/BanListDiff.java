@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * @since October 17, 2026
+ * Represents the differences between two {@link BanListSnapshot snapshots} of the ban list.
+ * Bans are matched by their player's {@link UUID} and case URL.
+ */
+public final class BanListDiff {
+
+    /* The bans that are only in the new snapshot */
+    private final @NotNull List<@NotNull BanEntry> added;
+
+    /* The bans that are only in the old snapshot */
+    private final @NotNull List<@NotNull BanEntry> removed;
+
+    /* The bans that are in both snapshots but are different, as old and new versions */
+    private final @NotNull List<@NotNull Change> changed;
+
+    private BanListDiff(@NotNull List<@NotNull BanEntry> added, @NotNull List<@NotNull BanEntry> removed, @NotNull List<@NotNull Change> changed) {
+        this.added = Collections.unmodifiableList(added);
+        this.removed = Collections.unmodifiableList(removed);
+        this.changed = Collections.unmodifiableList(changed);
+    }
+
+    /**
+     * Computes the differences between two snapshots.
+     * @param previous The old snapshot
+     * @param current The new snapshot
+     * @return The differences, in the same order as the snapshots' entries.
+     */
+    public static @NotNull BanListDiff compute(@NotNull BanListSnapshot previous, @NotNull BanListSnapshot current) {
+        Map<BanKey, BanEntry> remaining = new LinkedHashMap<>();
+
+        for (BanEntry entry : previous.getEntries()) {
+            remaining.put(new BanKey(entry), entry);
+        }
+
+        List<BanEntry> added = new ArrayList<>();
+        List<Change> changed = new ArrayList<>();
+
+        for (BanEntry entry : current.getEntries()) {
+            BanEntry old = remaining.remove(new BanKey(entry));
+
+            if (old == null) {
+                added.add(entry);
+            } else if (!old.equals(entry)) {
+                changed.add(new Change(old, entry));
+            }
+        }
+
+        return new BanListDiff(added, new ArrayList<>(remaining.values()), changed);
+    }
+
+    /**
+     * Gets the bans that were added to the ban list.
+     * @return An un-modifiable {@link List list} of the added bans
+     */
+    public @NotNull List<@NotNull BanEntry> getAdded() {
+        return this.added;
+    }
+
+    /**
+     * Gets the bans that were removed from the ban list.
+     * @return An un-modifiable {@link List list} of the removed bans
+     */
+    public @NotNull List<@NotNull BanEntry> getRemoved() {
+        return this.removed;
+    }
+
+    /**
+     * Gets the bans that were changed, like bans that were extended or had their reason changed.
+     * @return An un-modifiable {@link List list} of the changed bans
+     */
+    public @NotNull List<@NotNull Change> getChanged() {
+        return this.changed;
+    }
+
+    /**
+     * Gets if the snapshots are the same.
+     * @return If no bans were added, removed or changed
+     */
+    public boolean isEmpty() {
+        return this.added.isEmpty() && this.removed.isEmpty() && this.changed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d added, %d removed, %d changed", this.added.size(), this.removed.size(), this.changed.size());
+    }
+
+    /**
+     * Represents a ban that was changed.
+     */
+    public static final class Change {
+
+        /* The ban before it was changed */
+        public final @NotNull BanEntry previous;
+
+        /* The ban after it was changed */
+        public final @NotNull BanEntry current;
+
+        private Change(@NotNull BanEntry previous, @NotNull BanEntry current) {
+            this.previous = previous;
+            this.current = current;
+        }
+
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import rip.paragon.universalbanlist.ban.listener.FailurePolicy;
+import rip.paragon.universalbanlist.ban.message.KickMessages;
+import rip.paragon.universalbanlist.util.BoundedExecutor;
+
+import java.io.File;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Logger;
+
+/**
+ * @since October 17, 2026
+ * Everything the {@link BanListService ban list service}, its background tasks and listeners need from the plugin,
+ * like its threads and configuration. Implemented by the plugin, and by load tests that run the ban list without a server.
+ */
+public interface BanListEnvironment {
+
+    /**
+     * Gets the logger to log to.
+     * @return The logger
+     */
+    @NotNull Logger getLogger();
+
+    /**
+     * Gets the folder the ban list snapshot is saved in.
+     * @return The folder
+     */
+    @NotNull File getDataFolder();
+
+    /**
+     * Calls an event, like when the ban list changes.
+     * @param event The event
+     */
+    void callEvent(@NotNull Event event);
+
+    /**
+     * Runs a task asynchronously after a delay, like the next refresh of a source.
+     * @param task The task
+     * @param delay The delay, in milliseconds
+     */
+    void runTaskLaterAsynchronously(@NotNull Runnable task, long delay);
+
+    /**
+     * Gets an online player.
+     * @param uuid The player's UUID
+     * @return The player, or null if they aren't online.
+     */
+    @Nullable Player getPlayer(@NotNull UUID uuid);
+
+    /**
+     * Gets the executor used to fetch the ban list and look up bans.
+     * @return The executor
+     * @throws IllegalStateException If the executor isn't available, like when the plugin isn't enabled.
+     */
+    @NotNull BoundedExecutor getExecutor();
+
+    /**
+     * Gets the executor used to download the sources.
+     * @return The fetch executor
+     * @throws IllegalStateException If the executor isn't available, like when the plugin isn't enabled.
+     */
+    @NotNull BoundedExecutor getFetchExecutor();
+
+    /**
+     * Gets the pool used to parse large ban lists in parallel.
+     * @return The parse pool, or null if ban lists are parsed on one thread.
+     */
+    @Nullable ForkJoinPool getParsePool();
+
+    /**
+     * Gets the minimum size of a ban list to parse it in parallel.
+     * @return The threshold, in bytes
+     */
+    int getParallelParseThreshold();
+
+    /**
+     * Gets how bans are cached.
+     * @return The cache mode
+     */
+    @NotNull CacheMode getCacheMode();
+
+    /**
+     * Gets if the ban list should only be downloaded and parsed again if it has changed since it was last fetched.
+     * @return If conditional requests are enabled
+     */
+    boolean isConditionalRequests();
+
+    /**
+     * Gets if the ban list should be saved to disk every time it's fetched.
+     * @return If the snapshot is persisted
+     */
+    boolean isPersistSnapshot();
+
+    /**
+     * Gets the connect timeout used when fetching the ban list.
+     * @return The connect timeout, in milliseconds
+     */
+    int getConnectTimeout();
+
+    /**
+     * Gets the read timeout used when fetching the ban list.
+     * @return The read timeout, in milliseconds
+     */
+    int getReadTimeout();
+
+    /**
+     * Gets the minimum time between requests to each HTTP(S) source.
+     * @return The minimum interval, in milliseconds
+     */
+    long getMinimumFetchInterval();
+
+    /**
+     * Gets how long to wait before contacting a source again after it fails.
+     * @return The initial backoff, in milliseconds
+     */
+    long getInitialBackoff();
+
+    /**
+     * Gets the longest time to wait before contacting a source again after it fails.
+     * @return The maximum backoff, in milliseconds
+     */
+    long getMaxBackoff();
+
+    /**
+     * Gets how far refreshes of the snapshot can be from each source's refresh interval.
+     * @return The jitter, as a fraction of the refresh interval from 0 to 1
+     */
+    double getRefreshJitter();
+
+    /**
+     * Gets the maximum amount of new bans to enforce on online players every tick.
+     * @return The batch size
+     */
+    int getEnforcementBatchSize();
+
+    /**
+     * Gets the maximum time to wait for a player's bans to be checked when they log in.
+     * @return The login timeout, in milliseconds
+     */
+    long getLoginTimeout();
+
+    /**
+     * Gets what to do if a player's bans couldn't be checked and there's no previously fetched ban list to use.
+     * @return The failure policy
+     */
+    @NotNull FailurePolicy getFailurePolicy();
+
+    /**
+     * Gets the compiled kick messages.
+     * @return The kick messages
+     */
+    @NotNull KickMessages getKickMessages();
+
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * @since October 17, 2026
+ * Parses whole ban lists from CSV data.
+ *
+ * Large ban lists are split into chunks that each start at the beginning of a record, so line breaks inside
+ * quoted fields are never split. The chunks are parsed in parallel on a {@link ForkJoinPool fork-join pool},
+ * then merged in the same order as the CSV data, so the result is exactly the same as parsing it on one thread.
+ */
+public final class BanListParser {
+
+    private BanListParser() {}
+
+    /* The minimum size of each chunk, in bytes. Smaller chunks aren't worth parsing on another thread. */
+    public static final int MIN_CHUNK_SIZE = 256 * 1024;
+
+    /**
+     * Parses a ban list, in parallel if it's large enough.
+     * @param data The CSV data
+     * @param length The length of the CSV data
+     * @param pool The pool to parse chunks on, or null to parse on the current thread
+     * @param parallelThreshold The minimum length of the CSV data to parse it in parallel, in bytes
+     * @param source The name of the ban list
+     * @return The parsed ban list
+     * @throws IOException If the CSV data couldn't be read.
+     */
+    public static @NotNull Result parse(@NotNull byte[] data, int length, @Nullable ForkJoinPool pool, int parallelThreshold, @NotNull String source) throws IOException {
+        if (pool == null || length < parallelThreshold) {
+            return parseChunks(data, length, null, 1, source);
+        }
+
+        return parseChunks(data, length, pool, Math.min(pool.getParallelism() * 2, Math.max(1, length / MIN_CHUNK_SIZE)), source);
+    }
+
+    /**
+     * Parses a ban list after splitting it into the specified amount of chunks.
+     * There may be less chunks if there aren't enough records.
+     * @param data The CSV data
+     * @param length The length of the CSV data
+     * @param pool The pool to parse chunks on, or null to parse every chunk on the current thread
+     * @param chunkCount The maximum amount of chunks
+     * @param source The name of the ban list
+     * @return The parsed ban list
+     * @throws IOException If the CSV data couldn't be read.
+     */
+    public static @NotNull Result parseChunks(@NotNull byte[] data, int length, @Nullable ForkJoinPool pool, int chunkCount, @NotNull String source) throws IOException {
+        int[] starts = split(data, length, Math.max(1, chunkCount));
+        int[] ends = new int[starts.length];
+
+        for (int i = 0; i < starts.length; i++) {
+            ends[i] = i + 1 < starts.length ? starts[i + 1] : length;
+        }
+
+        // Parse every chunk except the first on the pool, while the first is parsed on this thread
+        List<ForkJoinTask<Chunk>> tasks = new ArrayList<>(starts.length);
+
+        if (pool != null) {
+            for (int i = 1; i < starts.length; i++) {
+                int start = starts[i];
+                int end = ends[i];
+
+                tasks.add(pool.submit(() -> parseChunk(data, start, end, false, source)));
+            }
+        }
+
+        List<BanEntry> entries = new ArrayList<>();
+        MalformedRowReport report = new MalformedRowReport();
+        long lastRecordNumber = 0L;
+
+        try {
+            for (int i = 0; i < starts.length; i++) {
+                Chunk chunk;
+
+                if (i == 0) {
+                    chunk = parseChunk(data, starts[i], ends[i], true, source);
+                } else if (pool != null) {
+                    chunk = tasks.get(i - 1).join();
+                } else {
+                    chunk = parseChunk(data, starts[i], ends[i], false, source);
+                }
+
+                // Every chunk's record numbers start from 1, so continue from the previous chunk's
+                entries.addAll(chunk.entries);
+                report.addAll(chunk.report, lastRecordNumber);
+
+                lastRecordNumber += chunk.lastRecordNumber;
+            }
+        } catch (UncheckedIOException e) {
+            // Tasks rethrow a copy of the exception, so find the original I/O error
+            Throwable cause = e;
+
+            while (cause instanceof UncheckedIOException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+
+            throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+        }
+
+        return new Result(Collections.unmodifiableList(entries), report);
+    }
+
+    /**
+     * Finds where each chunk starts. Every chunk starts at the beginning of a line that isn't inside a quoted field.
+     *
+     * Quoted fields are found the same way the CSV parser finds them: only a quote at the start of a field opens one,
+     * so a stray quote inside an unquoted field doesn't make the rest of the data look quoted.
+     * @param data The CSV data
+     * @param length The length of the CSV data
+     * @param chunkCount The maximum amount of chunks
+     * @return The offset of the start of each chunk, in ascending order. The first chunk always starts at 0.
+     */
+    private static @NotNull int[] split(@NotNull byte[] data, int length, int chunkCount) {
+        int[] starts = new int[chunkCount];
+        int count = 1;
+        boolean quoted = false;
+        boolean fieldStart = true;
+
+        for (int i = 0; i < length && count < chunkCount; i++) {
+            byte b = data[i];
+
+            if (quoted) {
+                // Two quotes in a row are an escaped quote, any other quote closes the field
+                if (b == '"') {
+                    if (i + 1 < length && data[i + 1] == '"') {
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                }
+
+                continue;
+            }
+
+            if (b == '"' && fieldStart) {
+                quoted = true;
+            } else if (b == '\n' && i + 1 < length && i + 1 >= (int) ((long) length * count / chunkCount)) {
+                starts[count++] = i + 1;
+            }
+
+            fieldStart = b == ',' || b == '\n' || b == '\r';
+        }
+
+        int[] result = new int[count];
+        System.arraycopy(starts, 0, result, 0, count);
+
+        return result;
+    }
+
+    /**
+     * Parses a chunk of a ban list.
+     * @param data The CSV data
+     * @param start The start of the chunk (inclusive)
+     * @param end The end of the chunk (exclusive)
+     * @param first If this is the first chunk, which contains the header
+     * @param source The name of the ban list
+     * @return The parsed chunk
+     * @throws UncheckedIOException If the chunk couldn't be read.
+     */
+    private static @NotNull Chunk parseChunk(@NotNull byte[] data, int start, int end, boolean first, @NotNull String source) {
+        List<BanEntry> entries = new ArrayList<>();
+
+        try (BanListReader reader = new BanListReader(
+                new ByteArrayInputStream(data, start, end - start),
+                first ? BanListReader.FORMAT : BanListReader.HEADERLESS_FORMAT,
+                null,
+                source
+        )) {
+            reader.forEachRemaining(entries::add);
+
+            return new Chunk(entries, reader.getReport(), reader.getLastRecordNumber());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Represents a parsed chunk of a ban list.
+     */
+    private static final class Chunk {
+
+        final @NotNull List<@NotNull BanEntry> entries;
+        final @NotNull MalformedRowReport report;
+        final long lastRecordNumber;
+
+        Chunk(@NotNull List<@NotNull BanEntry> entries, @NotNull MalformedRowReport report, long lastRecordNumber) {
+            this.entries = entries;
+            this.report = report;
+            this.lastRecordNumber = lastRecordNumber;
+        }
+
+    }
+
+    /**
+     * Represents a parsed ban list.
+     */
+    public static final class Result {
+
+        /* Every ban entry that was parsed, in the same order as the CSV data */
+        public final @NotNull List<@NotNull BanEntry> entries;
+
+        /* The report of the malformed records */
+        public final @NotNull MalformedRowReport report;
+
+        private Result(@NotNull List<@NotNull BanEntry> entries, @NotNull MalformedRowReport report) {
+            this.entries = entries;
+            this.report = report;
+        }
+
+    }
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import rip.paragon.universalbanlist.util.UUIDs;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * @since October 17, 2026
+ * Reads {@link BanEntry ban entries} from CSV data one record at a time.
+ * Only the record currently being deserialized is kept in memory.
+ *
+ * If players are specified, the UUID column of each record is checked first, and only the records related
+ * to those players are deserialized.
+ *
+ * Malformed records are skipped and added to a {@link MalformedRowReport report}.
+ */
+final class BanListReader implements Iterator<@NotNull BanEntry>, Closeable {
+
+    /* The format of the CSV data */
+    static final CSVFormat FORMAT = CSVFormat.DEFAULT
+            .withHeader(BanEntry.RECORD_MAPPINGS)
+            .withSkipHeaderRecord();
+
+    /* The format of CSV data without a header, like every chunk except the first when parsing in parallel */
+    static final CSVFormat HEADERLESS_FORMAT = CSVFormat.DEFAULT.withHeader(BanEntry.RECORD_MAPPINGS);
+
+    /* The amount of characters read from the data at a time */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /* The index of the UUID column */
+    private static final int UUID_COLUMN = Arrays.asList(BanEntry.RECORD_MAPPINGS).indexOf("UUID");
+
+    /* The CSV parser */
+    private final @NotNull CSVParser parser;
+
+    /* The CSV records that haven't been read yet */
+    private final @NotNull Iterator<@NotNull CSVRecord> records;
+
+    /* The player to read ban entries for. Will be null if every ban entry should be read, or there's a set of players. */
+    private final @Nullable UUID player;
+
+    /* The players to read ban entries for, if there isn't exactly one. Will be null if every ban entry should be read. */
+    private final @Nullable Set<@NotNull UUID> players;
+
+    /* The name of the ban list being read */
+    private final @NotNull String source;
+
+    /* The report of the malformed records read so far */
+    private final @NotNull MalformedRowReport report = new MalformedRowReport();
+
+    /* The next ban entry. Will be null if it hasn't been read yet. */
+    private @Nullable BanEntry next;
+
+    /* If every record has been read */
+    private boolean exhausted;
+
+    /**
+     * Creates a reader.
+     * @param input The CSV data
+     * @param format The format of the CSV data, either {@link BanListReader#FORMAT} or {@link BanListReader#HEADERLESS_FORMAT}
+     * @param players The players to read ban entries for, or null to read every ban entry
+     * @param source The name of the ban list being read
+     * @throws IOException If the CSV data couldn't be read.
+     */
+    BanListReader(
+            @NotNull InputStream input,
+            @NotNull CSVFormat format,
+            @Nullable Set<@NotNull UUID> players,
+            @NotNull String source
+    ) throws IOException {
+        this.parser = CSVParser.parse(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), BUFFER_SIZE), format);
+        this.records = this.parser.iterator();
+
+        // A single player's rows can be matched against the UUID column's text without parsing it
+        this.player = players != null && players.size() == 1 ? players.iterator().next() : null;
+        this.players = players != null && players.size() != 1 ? players : null;
+        this.source = source;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (this.next == null && this.hasNextRecord()) {
+            CSVRecord record = this.records.next();
+
+            // Skip records related to other players without deserializing them
+            if (!this.isRelated(record)) {
+                continue;
+            }
+
+            // Some records in the spreadsheet are malformed.
+            // This is unfortunately due to the incompetency of the Reddit hosting platform.
+            // Because of this, we just add them to the report and continue.
+            DecodeResult result = BanEntry.decode(record, this.source);
+
+            this.report.add(result, record);
+            this.next = result.entry;
+        }
+
+        return this.next != null;
+    }
+
+    @Override
+    public @NotNull BanEntry next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        BanEntry entry = this.next;
+        this.next = null;
+
+        return entry;
+    }
+
+    /**
+     * Checks if a record is related to the players being read by its UUID column, without deserializing it.
+     * @param record The record
+     * @return If the record should be deserialized
+     */
+    private boolean isRelated(@NotNull CSVRecord record) {
+        if (this.player == null && this.players == null) {
+            return true;
+        }
+
+        if (record.size() <= UUID_COLUMN) {
+            return false;
+        }
+
+        if (this.player != null) {
+            return UUIDs.matches(record.get(UUID_COLUMN), this.player);
+        }
+
+        UUID uuid = UUIDs.parse(record.get(UUID_COLUMN));
+
+        return uuid != null && this.players.contains(uuid);
+    }
+
+    /**
+     * Gets if there's another CSV record to read.
+     * @return If there's another CSV record
+     * @throws UncheckedIOException If the CSV data couldn't be read.
+     */
+    private boolean hasNextRecord() {
+        try {
+            if (!this.records.hasNext()) {
+                this.exhausted = true;
+            }
+
+            return !this.exhausted;
+        } catch (IllegalStateException e) {
+            // The CSV parser wraps I/O errors in an IllegalStateException when iterating
+            if (e.getCause() instanceof IOException) {
+                throw new UncheckedIOException((IOException) e.getCause());
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the report of the malformed records read so far.
+     * If a player was specified, only the records related to that player are included.
+     * @return The report
+     */
+    @NotNull MalformedRowReport getReport() {
+        return this.report;
+    }
+
+    /**
+     * Gets the number of the last record read, including the header if it was skipped.
+     * @return The record number, or 0 if no records have been read.
+     */
+    long getLastRecordNumber() {
+        return this.parser.getRecordNumber();
+    }
+
+    /**
+     * Gets if every record has been read.
+     * @return If the end of the CSV data has been reached
+     */
+    boolean isExhausted() {
+        return this.exhausted;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.parser.close();
+    }
+
+}
@@ -24,20 +24,44 @@
 
 package rip.paragon.universalbanlist.ban;
 
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVParser;
-import org.apache.commons.csv.CSVRecord;
 import org.jetbrains.annotations.NotNull;
-import rip.paragon.universalbanlist.UniversalBanList;
+import org.jetbrains.annotations.Nullable;
+import rip.paragon.universalbanlist.ban.event.BanAddedEvent;
+import rip.paragon.universalbanlist.ban.event.BanChangedEvent;
+import rip.paragon.universalbanlist.ban.event.BanListUpdateEvent;
+import rip.paragon.universalbanlist.ban.event.BanRemovedEvent;
+import rip.paragon.universalbanlist.util.Backoff;
+import rip.paragon.universalbanlist.util.LogThrottle;
 
-import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.net.HttpURLConnection;
-import java.net.URLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * @author Levi Taylor
@@ -48,8 +72,98 @@ public class BanListService {
 
     public static final BanListService INSTANCE = new BanListService();
 
+    /* The latest snapshot of the ban list. Only used if the cache mode is snapshot. */
+    private volatile @Nullable BanListSnapshot snapshot;
+
+    /* The ban list each source's ban list was at when the current snapshot was created, in order of precedence */
+    private @Nullable List<@Nullable FetchedBanList> snapshotSources;
+
+    /* The sources to fetch bans from, in order of precedence */
+    private volatile @NotNull List<@NotNull BanListSource> sources = Collections.emptyList();
+
+    /* The ban list saved to disk the last time it was fetched, loaded at startup. Used if the ban list can't be fetched. */
+    private volatile @Nullable BanListSnapshot storedSnapshot;
+
+    /* The lock held while the ban list is saved to disk, since every source saves to the same file */
+    private final @NotNull Object storeLock = new Object();
+
+    /* Whether saving the ban list to disk has been scheduled but hasn't started yet */
+    private final @NotNull AtomicBoolean storePending = new AtomicBoolean();
+
+    /* Everything the service needs from the plugin. Will be null until the plugin is enabled. */
+    private volatile @Nullable BanListEnvironment environment;
+
+    /* The transport used to fetch ban lists that aren't watched */
+    private volatile @NotNull BanListTransport transport = new URLConnectionTransport();
+
+    /* Limits how often failed lookups are logged, since every player who joins during an outage has one */
+    private final @NotNull LogThrottle fetchFailureLog = new LogThrottle(1L, TimeUnit.MINUTES);
+
     private BanListService() {}
 
+    /**
+     * Sets the environment the service uses for its threads, configuration and logging.
+     * @param environment The environment, usually the plugin
+     */
+    public void setEnvironment(@NotNull BanListEnvironment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Gets the environment the service uses for its threads, configuration and logging.
+     * @return The environment
+     * @throws IllegalStateException If the environment hasn't been set, like before the plugin is enabled.
+     */
+    public @NotNull BanListEnvironment getEnvironment() {
+        BanListEnvironment environment = this.environment;
+
+        if (environment == null) {
+            throw new IllegalStateException("The ban list service hasn't been set up");
+        }
+
+        return environment;
+    }
+
+    /**
+     * Sets the transport used to fetch ban lists, like to fetch them through a proxy or from a test server.
+     * @param transport The transport
+     */
+    public void setTransport(@NotNull BanListTransport transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * Gets the transport used to fetch ban lists.
+     * @return The transport
+     */
+    public @NotNull BanListTransport getTransport() {
+        return this.transport;
+    }
+
+    /**
+     * Sets the sources to fetch bans from.
+     * @param sources The sources, in order of precedence
+     * @throws IllegalArgumentException If there are no sources.
+     */
+    public void setSources(@NotNull List<@NotNull BanListSource> sources) {
+        if (sources.isEmpty()) {
+            throw new IllegalArgumentException("There must be at least one source");
+        }
+
+        List<BanListSource> sorted = new ArrayList<>(sources);
+        sorted.sort(Comparator.comparingInt(source -> source.precedence));
+
+        this.sources = Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * Gets the sources bans are fetched from.
+     * @return An un-modifiable {@link List list} of the sources, in order of precedence
+     */
+    public @NotNull List<@NotNull BanListSource> getSources() {
+        return this.sources;
+    }
+
     /**
      * Gets a {@link List list} of {@link BanEntry bans} based on the specified {@link Predicate selector}.
      *
@@ -59,85 +173,1273 @@ public class BanListService {
      * @return The list of {@link BanEntry bans} that matched the specified {@link Predicate selector}.
      */
     public @NotNull List<@NotNull BanEntry> getBanEntries(@NotNull Predicate<@NotNull BanEntry> selector) {
+        try (Stream<BanEntry> entries = this.stream()) {
+            return entries.filter(selector).collect(Collectors.toList());
+        } catch (IOException | UncheckedIOException e) {
+            this.logFetchFailure("Couldn't fetch records", e);
+
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Opens a {@link Stream stream} of every {@link BanEntry ban} on the ban list, whether active or expired.
+     *
+     * If the ban list has to be downloaded, its entries are parsed one by one as the stream is consumed,
+     * so short-circuiting operations like {@link Stream#findFirst()} stop parsing the ban list as soon as they're done.
+     * Streams opened while the ban list is being downloaded share the same download.
+     * If the plugin is using the {@link CacheMode#SNAPSHOT snapshot cache mode}, the latest snapshot will be streamed instead.
+     *
+     * If there's more than one source, every source is downloaded at the same time, and bans that are on more than one
+     * source are only included once, from the source with the highest precedence.
+     *
+     * The stream must be closed once it's no longer needed, preferably with a try-with-resources statement.
+     * This method should be called asynchronously.
+     *
+     * @return A {@link Stream stream} of {@link BanEntry ban entries}, in the same order as the ban list.
+     *         Reading from the stream throws an {@link UncheckedIOException} if the ban list couldn't be read.
+     * @throws IOException If the ban list couldn't be fetched.
+     */
+    public @NotNull Stream<@NotNull BanEntry> stream() throws IOException {
+        return this.stream((Set<UUID>) null);
+    }
+
+    /**
+     * Opens a {@link Stream stream} of {@link BanEntry bans} on the ban list, whether active or expired.
+     *
+     * If players are specified, only the bans related to those players are included. When the ban list has to be
+     * parsed lazily, the UUID column of each record is checked first so only those players' bans are deserialized.
+     *
+     * @param players The players to stream bans for, or null to stream every ban
+     * @return A {@link Stream stream} of {@link BanEntry ban entries}, in the same order as the ban list.
+     *         From a snapshot, each player's bans are streamed in turn instead.
+     * @throws IOException If the ban list couldn't be fetched.
+     * @see BanListService#stream()
+     */
+    private @NotNull Stream<@NotNull BanEntry> stream(@Nullable Set<@NotNull UUID> players) throws IOException {
+        BanListSnapshot snapshot = this.getSnapshot();
+
+        if (snapshot != null) {
+            if (players == null) {
+                return snapshot.getEntries().stream();
+            }
+
+            return players.stream().flatMap(player -> snapshot.getBanEntries(player).stream());
+        }
+
+        List<BanListSource> sources = this.sources;
+
+        if (sources.size() == 1) {
+            return this.stream(sources.get(0), this.await(sources.get(0), this.download(sources.get(0))), players);
+        }
+
+        // Start every download before waiting for any of them
+        List<CompletableFuture<Download>> downloads = this.downloadAll(sources);
+        Map<BanKey, Integer> owners = new HashMap<>();
+        Stream<BanEntry> merged = Stream.empty();
+
         try {
-            URLConnection connection = UniversalBanList.INSTANCE.getBanListURL().openConnection();
+            for (int i = 0; i < sources.size(); i++) {
+                int precedence = i;
+                BanListSource source = sources.get(i);
+                Stream<BanEntry> entries = this.stream(source, this.await(source, downloads.get(i)), players);
+
+                merged = Stream.concat(merged, entries.filter(entry -> isFromOwner(owners, entry, precedence)));
+            }
+        } catch (IOException | RuntimeException e) {
+            merged.close();
+
+            throw e;
+        }
+
+        return merged;
+    }
+
+    /**
+     * Opens a {@link Stream stream} of {@link BanEntry bans} on a source's ban list.
+     * @param source The source
+     * @param download The source's download
+     * @param players The players to stream bans for, or null to stream every ban
+     * @return A {@link Stream stream} of {@link BanEntry ban entries}, in the same order as the ban list.
+     * @throws IOException If the ban list couldn't be read.
+     */
+    private @NotNull Stream<@NotNull BanEntry> stream(
+            @NotNull BanListSource source,
+            @NotNull Download download,
+            @Nullable Set<@NotNull UUID> players
+    ) throws IOException {
+        FetchedBanList fetched = download.fetched;
+
+        if (fetched != null) {
+            if (players == null) {
+                return fetched.entries.stream();
+            }
+
+            // Most players have no bans, so skip scanning the entries for them
+            List<UUID> candidates = players.stream().filter(fetched.playerFilter::mightContain).collect(Collectors.toList());
+
+            if (candidates.isEmpty()) {
+                return Stream.empty();
+            }
 
-            // If this is a HTTP connection, check the response code
-            if (connection instanceof HttpURLConnection) {
-                HttpURLConnection httpConn = (HttpURLConnection) connection;
-                int httpCode = httpConn.getResponseCode();
+            if (candidates.size() == 1) {
+                UUID player = candidates.get(0);
 
-                // We don't know how to handle non-OK response codes, log and exit now
-                if (httpCode != HttpURLConnection.HTTP_OK) {
-                    UniversalBanList.INSTANCE.getLogger().severe("Non-OK HTTP response code returned " + httpCode);
+                return fetched.entries.stream().filter(entry -> entry.isPlayer(player));
+            }
+
+            return fetched.entries.stream().filter(entry -> players.contains(entry.getPlayerID()));
+        }
+
+        BanListReader reader = new BanListReader(new ByteArrayInputStream(download.body), BanListReader.FORMAT, players, source.name);
+
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(reader, Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        ).onClose(() -> {
+            // Only complete reports are published
+            if (players == null && reader.isExhausted()) {
+                this.publishReport(source, reader.getReport());
+            }
+
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Gets if a ban should be included when merging sources, because no source with a higher precedence has the same ban.
+     * Sources must be merged in order of precedence.
+     * @param owners The precedence of the source each ban was first seen on
+     * @param entry The ban
+     * @param precedence The precedence of the ban's source
+     * @return If the ban should be included
+     */
+    private static boolean isFromOwner(@NotNull Map<BanKey, Integer> owners, @NotNull BanEntry entry, int precedence) {
+        return owners.computeIfAbsent(new BanKey(entry), key -> precedence) == precedence;
+    }
 
-                    return Collections.emptyList();
+    /**
+     * Merges the ban lists of every source. Bans that are on more than one source are only included once,
+     * from the source with the highest precedence. Every other ban is kept, in the same order as the sources.
+     * @param lists The ban list of each source, in order of precedence
+     * @return The merged ban list
+     */
+    static @NotNull List<@NotNull BanEntry> mergeSources(@NotNull List<@NotNull List<@NotNull BanEntry>> lists) {
+        if (lists.size() == 1) {
+            return lists.get(0);
+        }
+
+        Map<BanKey, Integer> owners = new HashMap<>();
+        List<BanEntry> merged = new ArrayList<>();
+
+        for (int i = 0; i < lists.size(); i++) {
+            for (BanEntry entry : lists.get(i)) {
+                if (isFromOwner(owners, entry, i)) {
+                    merged.add(entry);
                 }
             }
+        }
+
+        return merged;
+    }
+
+    /**
+     * Fetches and parses the whole ban list from a source.
+     *
+     * If conditional requests are enabled and the source hasn't changed since the last fetch, the
+     * previously parsed ban list is returned instead of downloading and parsing it again.
+     *
+     * @param source The source
+     * @return The fetched ban list
+     * @throws IOException If the ban list couldn't be fetched.
+     */
+    private @NotNull FetchedBanList fetch(@NotNull BanListSource source) throws IOException {
+        Download download = this.await(source, this.download(source));
 
-            // The reader
-            BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream()));
+        return download.fetched != null ? download.fetched : this.parse(source, download.response, download.body, download.body.length);
+    }
 
-            // The CSV records
-            List<@NotNull CSVRecord> records = new ArrayList<>(
-                    CSVParser.parse(
-                            reader,
+    /**
+     * Fetches and parses the whole ban list from every source, then merges them.
+     * Every source is downloaded at the same time.
+     * @return The merged ban list
+     * @throws IOException If any of the sources couldn't be fetched.
+     */
+    private @NotNull List<@NotNull BanEntry> fetchAll() throws IOException {
+        List<BanListSource> sources = this.sources;
+        List<CompletableFuture<Download>> downloads = this.downloadAll(sources);
+        List<List<BanEntry>> lists = new ArrayList<>(sources.size());
 
-                            CSVFormat.DEFAULT
-                            .withHeader(BanEntry.RECORD_MAPPINGS)
-                            .withSkipHeaderRecord()
-                    ).getRecords()
-            );
+        for (int i = 0; i < sources.size(); i++) {
+            BanListSource source = sources.get(i);
+            Download download = this.await(source, downloads.get(i));
 
-            // The result
-            List<@NotNull BanEntry> entries = new ArrayList<>();
+            lists.add(download.fetched != null
+                    ? download.fetched.entries
+                    : this.parse(source, download.response, download.body, download.body.length).entries);
+        }
 
-            // Deserialize the records and add them to the result if it matches the selector
-            for (CSVRecord record : records) {
-                BanEntry entry;
+        return mergeSources(lists);
+    }
 
+    /**
+     * Starts downloading every source, or waits for the downloads that are already in progress.
+     * @param sources The sources
+     * @return The downloads, in the same order as the sources
+     */
+    private @NotNull List<@NotNull CompletableFuture<Download>> downloadAll(@NotNull List<@NotNull BanListSource> sources) {
+        List<CompletableFuture<Download>> downloads = new ArrayList<>(sources.size());
+
+        for (BanListSource source : sources) {
+            downloads.add(this.download(source));
+        }
+
+        return downloads;
+    }
+
+    /**
+     * Downloads a source's ban list, or waits for the download that's already in progress.
+     *
+     * Only one download happens at a time for each source. Every lookup made while the ban list is being downloaded
+     * shares the same download, so the amount of requests made to the source doesn't depend on how many players are joining.
+     * Downloads run on the plugin's fetch threads, so every source can be downloaded at the same time.
+     *
+     * @param source The source
+     * @return A {@link CompletableFuture future} containing the download.
+     *         Completes exceptionally if the ban list couldn't be downloaded.
+     */
+    private @NotNull CompletableFuture<Download> download(@NotNull BanListSource source) {
+        CompletableFuture<Download> future = new CompletableFuture<>();
+
+        // Attach to the download in progress, or start a new one if there isn't one
+        while (!source.inFlightDownload.compareAndSet(null, future)) {
+            CompletableFuture<Download> inFlight = source.inFlightDownload.get();
+
+            if (inFlight != null) {
+                return inFlight;
+            }
+        }
+
+        try {
+            this.getEnvironment().getFetchExecutor().execute(() -> {
+                // The download stops being shared before it completes, so lookups made afterwards start a new one
                 try {
-                    entry = BanEntry.deserialize(record);
-                } catch (IOException e) {
-                    // Some records in the spreadsheet are malformed.
-                    // This is unfortunately due to the incompetency of the Reddit hosting platform.
-                    // Because of this, we just silence any exception and continue.
-                    continue;
+                    Download download = this.startDownload(source);
+
+                    source.inFlightDownload.compareAndSet(future, null);
+                    future.complete(download);
+                } catch (IOException | RuntimeException e) {
+                    source.inFlightDownload.compareAndSet(future, null);
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException | IllegalStateException e) {
+            // The plugin is being disabled
+            source.inFlightDownload.compareAndSet(future, null);
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    /**
+     * Waits for a source's download to finish, for at most the connect timeout plus the read timeout.
+     * If it takes longer, the download carries on in the background, so a stuck download can't hold every lookup thread.
+     * @param source The source
+     * @param download The download
+     * @return The download
+     * @throws IOException If the ban list couldn't be downloaded in time.
+     */
+    private @NotNull Download await(@NotNull BanListSource source, @NotNull CompletableFuture<Download> download) throws IOException {
+        long timeout = (long) this.getEnvironment().getConnectTimeout() + this.getEnvironment().getReadTimeout();
+
+        try {
+            return download.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IOException(String.format("Downloading the ban list from %s took longer than %dms", source.name, timeout), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            throw new InterruptedIOException(String.format("Interrupted while downloading the ban list from %s", source.name));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw new IOException(String.format("Couldn't download the ban list from %s", source.name), e.getCause());
+            }
+
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    /**
+     * Downloads a source's ban list, recording how long it took and the response's status.
+     *
+     * Requests to HTTP(S) sources are held back while backing off after failures, and until the minimum interval has
+     * passed since the last request, so a lot of players joining at once doesn't get the plugin rate limited.
+     * The last successful download is used instead while they're held back.
+     *
+     * @param source The source
+     * @return The download
+     * @throws IOException If the ban list couldn't be downloaded, or the request was held back and there's no previous download to use.
+     */
+    private @NotNull Download startDownload(@NotNull BanListSource source) throws IOException {
+        boolean remote = !source.url.getProtocol().equals("file");
+
+        if (remote) {
+            long wait = source.reserveRequest(System.currentTimeMillis(), this.getEnvironment().getMinimumFetchInterval());
+
+            if (wait > 0L) {
+                Download last = source.lastDownload;
+
+                if (last == null) {
+                    throw new IOException(String.format("Not contacting %s for another %dms", source.name, wait));
                 }
 
-                // Add the ban to the result if it passes the predicate's test
-                if (selector.test(entry)) {
-                    entries.add(entry);
+                // Reuse the parsed ban list if there is one, so it isn't parsed again
+                FetchedBanList latest = source.latest;
+
+                return last.fetched == null && latest != null ? new Download(last.response, latest, null) : last;
+            }
+        }
+
+        long start = System.nanoTime();
+        Response response;
+        byte[] body = null;
+
+        try {
+            response = this.open(source);
+
+            if (response.unchanged == null) {
+                body = response.body;
+            }
+        } catch (IOException | RuntimeException e) {
+            source.recordFailure(System.nanoTime() - start, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+
+            if (remote) {
+                long delay = source.backOff(
+                        System.currentTimeMillis(),
+                        this.getEnvironment().getInitialBackoff(),
+                        this.getEnvironment().getMaxBackoff(),
+                        e instanceof HttpStatusException ? ((HttpStatusException) e).retryAfter : -1L
+                );
+
+                this.getEnvironment().getLogger().warning(String.format(
+                        "Couldn't fetch the ban list from %s (%d failures in a row), not contacting it again for %ds",
+                        source.name,
+                        source.getConsecutiveFailures(),
+                        TimeUnit.MILLISECONDS.toSeconds(delay)
+                ));
+            }
+
+            throw e;
+        }
+
+        source.recordFetch(System.nanoTime() - start, response.status);
+        source.resetBackoff();
+
+        Download download;
+
+        if (response.unchanged != null) {
+            // The ban list hasn't changed since it was last fetched
+            download = new Download(response, response.unchanged, null);
+        } else if (response.isRevalidatable()) {
+            // The ban list has to be kept to make the next fetch conditional, so it's parsed once for every lookup
+            download = new Download(response, this.parse(source, response, body, body.length), null);
+        } else {
+            // Otherwise, every lookup parses it lazily
+            download = new Download(response, null, body);
+        }
+
+        if (remote) {
+            source.lastDownload = download;
+        }
+
+        return download;
+    }
+
+    /**
+     * Parses the whole ban list from a {@link Response response}, remembering it if it can be revalidated.
+     * Large ban lists are parsed in parallel.
+     * @param source The source the ban list is from
+     * @param response The response containing the ban list
+     * @param data The ban list's data
+     * @param length The length of the ban list's data
+     * @return The parsed ban list
+     * @throws IOException If the ban list couldn't be read.
+     */
+    private @NotNull FetchedBanList parse(@NotNull BanListSource source, @NotNull Response response, @NotNull byte[] data, int length) throws IOException {
+        long start = System.nanoTime();
+        BanListParser.Result result = BanListParser.parse(
+                data,
+                length,
+                this.getEnvironment().getParsePool(),
+                this.getEnvironment().getParallelParseThreshold(),
+                source.name
+        );
+
+        source.recordParse(System.nanoTime() - start);
+        this.publishReport(source, result.report);
+
+        FetchedBanList fetched = new FetchedBanList(
+                response.url,
+                result.entries,
+                result.report,
+                response.entityTag,
+                response.lastModified,
+                response.fileModifiedTime,
+                response.fileSize
+        );
+
+        // Remember the ban list so the next fetch can be conditional
+        if (response.isRevalidatable()) {
+            source.lastFetched = fetched;
+        }
+
+        source.latest = fetched;
+        this.scheduleStoreSnapshot();
+
+        return fetched;
+    }
+
+    /**
+     * Gets the latest bans from a source. If the source hasn't been parsed since the plugin was enabled,
+     * its bans from the ban list saved to disk are used instead.
+     * @param source The source
+     * @return The source's bans, or null if there are none to use.
+     */
+    private @Nullable List<@NotNull BanEntry> getLatestEntries(@NotNull BanListSource source) {
+        FetchedBanList latest = source.latest;
+
+        if (latest != null) {
+            return latest.entries;
+        }
+
+        BanListSnapshot stored = this.storedSnapshot;
+
+        if (stored == null) {
+            return null;
+        }
+
+        return stored.getEntries().stream().filter(entry -> entry.source.equals(source.name)).collect(Collectors.toList());
+    }
+
+    /**
+     * Saves the latest bans from every source to disk on the executor, so lookups waiting for the ban list
+     * don't wait for the disk too. If saving has already been scheduled, it saves these bans as well.
+     */
+    private void scheduleStoreSnapshot() {
+        if (!this.getEnvironment().isPersistSnapshot() || !this.storePending.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            this.getEnvironment().getExecutor().execute(() -> {
+                // Bans parsed from now on are saved by the next save
+                this.storePending.set(false);
+                this.storeSnapshot();
+            });
+        } catch (RejectedExecutionException e) {
+            this.storePending.set(false);
+            this.getEnvironment().getLogger().warning("Couldn't save the ban list snapshot, the executor is full or shut down");
+        }
+    }
+
+    /**
+     * Saves the latest bans from every source to disk, so they can be used at startup and while the sources can't be fetched.
+     * Every source's bans are saved, even bans that are also on a source with a higher precedence.
+     */
+    private void storeSnapshot() {
+        if (!this.getEnvironment().isPersistSnapshot()) {
+            return;
+        }
+
+        synchronized (this.storeLock) {
+            List<BanEntry> entries = new ArrayList<>();
+
+            for (BanListSource source : this.sources) {
+                List<BanEntry> sourceEntries = this.getLatestEntries(source);
+
+                if (sourceEntries != null) {
+                    entries.addAll(sourceEntries);
                 }
             }
 
-            return entries;
+            try {
+                SnapshotFile.write(this.getSnapshotPath(), entries, System.currentTimeMillis());
+            } catch (IOException e) {
+                this.getEnvironment().getLogger().log(Level.WARNING, "Couldn't save the ban list snapshot", e);
+            }
+        }
+    }
+
+    /**
+     * Loads the ban list saved to disk the last time it was fetched.
+     * If the plugin is using the {@link CacheMode#SNAPSHOT snapshot cache mode} and a snapshot hasn't been created yet,
+     * the saved ban list is used as the snapshot until the ban list is fetched, so bans are enforced immediately.
+     * Otherwise it's only used if the ban list can't be fetched.
+     *
+     * Only the bans from the current sources are used. If the saved ban list doesn't exist, or is truncated or corrupted,
+     * it's ignored.
+     * @return The saved ban list, with the sources merged, or null if it couldn't be loaded.
+     */
+    public @Nullable BanListSnapshot loadStoredSnapshot() {
+        if (!this.getEnvironment().isPersistSnapshot()) {
+            return null;
+        }
+
+        BanListSnapshot stored;
+
+        try {
+            stored = SnapshotFile.read(this.getSnapshotPath());
+        } catch (NoSuchFileException e) {
+            return null;
         } catch (IOException e) {
-            UniversalBanList.INSTANCE.getLogger().severe("Couldn't fetch records");
-            e.printStackTrace();
+            this.getEnvironment().getLogger().warning(String.format("Couldn't load the ban list snapshot: %s", e.getMessage()));
 
-            return Collections.emptyList();
+            return null;
         }
+
+        this.storedSnapshot = stored;
+
+        BanListSnapshot merged = new BanListSnapshot(this.mergeLatestEntries(), stored.getCreationTime());
+
+        synchronized (this) {
+            if (this.snapshot == null) {
+                this.snapshot = merged;
+            }
+        }
+
+        return merged;
+    }
+
+    /**
+     * Merges the latest bans from every source.
+     * @return The merged ban list
+     * @see BanListService#getLatestEntries(BanListSource)
+     */
+    private @NotNull List<@NotNull BanEntry> mergeLatestEntries() {
+        List<BanEntry> entries = this.getLastKnownEntries();
+
+        return entries != null ? entries : Collections.emptyList();
     }
 
     /**
-     * Fetches a live version of the ban list from the URL specified in the plugin's configuration file.
+     * Merges the latest bans from every source, without fetching the ban list.
+     * @return The merged ban list, or null if none of the sources have been parsed or saved to disk.
+     * @see BanListService#getLatestEntries(BanListSource)
+     */
+    private @Nullable List<@NotNull BanEntry> getLastKnownEntries() {
+        List<BanListSource> sources = this.sources;
+        List<List<BanEntry>> lists = new ArrayList<>(sources.size());
+        boolean known = false;
+
+        for (BanListSource source : sources) {
+            List<BanEntry> entries = this.getLatestEntries(source);
+
+            if (entries != null) {
+                known = true;
+            }
+
+            lists.add(entries != null ? entries : Collections.emptyList());
+        }
+
+        return known ? mergeSources(lists) : null;
+    }
+
+    private @NotNull Path getSnapshotPath() {
+        return this.getEnvironment().getDataFolder().toPath().resolve("snapshot.bin");
+    }
+
+    /**
+     * Publishes the report of the malformed records from reading a source's whole ban list.
+     * The report is logged if it's different from the last one, so it's only logged once each time the ban list changes.
+     * @param source The source
+     * @param report The report
+     */
+    private void publishReport(@NotNull BanListSource source, @NotNull MalformedRowReport report) {
+        MalformedRowReport previous = source.malformedRowReport;
+        source.malformedRowReport = report;
+        source.recordRows(report);
+
+        if (report.getTotalFailures() > 0 && (previous == null || !previous.hasSameCounts(report))) {
+            this.getEnvironment().getLogger().warning(String.format(
+                    "Some bans from %s couldn't be loaded because they're malformed. %s",
+                    source.name,
+                    report
+            ));
+
+            for (MalformedRowReport.Sample sample : report.getSamples()) {
+                this.getEnvironment().getLogger().warning(sample.toString());
+            }
+        }
+    }
+
+    /**
+     * Gets the report of the malformed records from the last time a source's whole ban list was read.
+     * @param source The source
+     * @return The report, or null if the whole ban list hasn't been read yet.
+     */
+    public @Nullable MalformedRowReport getMalformedRowReport(@NotNull BanListSource source) {
+        return source.malformedRowReport;
+    }
+
+    /**
+     * Fetches the ban list from a source's URL using the {@link BanListTransport transport}.
+     *
+     * If conditional requests are enabled, the request is made conditional on the ban list having changed
+     * since it was last fetched. For local files, their modification time and size are compared instead.
+     *
+     * @param source The source
+     * @return The response
+     * @throws IOException If the ban list couldn't be fetched, or a non-OK HTTP response code was returned.
+     */
+    private @NotNull Response open(@NotNull BanListSource source) throws IOException {
+        URL url = source.url;
+        boolean conditional = this.getEnvironment().isConditionalRequests();
+        Response response = new Response(url.toString(), conditional);
+
+        // The last fetched ban list, if it can be revalidated
+        FetchedBanList previous = conditional ? source.lastFetched : null;
+
+        if (previous != null && !previous.url.equals(response.url)) {
+            previous = null;
+        }
+
+        // If the file is being watched, it's only read again once it changes
+        FetchedBanList watched = source.watchedBanList;
+
+        if (watched != null && watched.url.equals(response.url)) {
+            response.status = "watched";
+            response.unchanged = watched;
+
+            return response;
+        }
+
+        // If this is a local file, compare its modification time and size instead of sending a request
+        if (url.getProtocol().equals("file")) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(Paths.get(url.toURI()), BasicFileAttributes.class);
+
+                response.fileModifiedTime = attributes.lastModifiedTime().toMillis();
+                response.fileSize = attributes.size();
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                throw new IOException("Invalid file URL " + response.url, e);
+            }
+
+            response.status = "file";
+
+            if (previous != null && previous.isFileUnchanged(response.url, response.fileModifiedTime, response.fileSize)) {
+                response.status = "file unchanged";
+                response.unchanged = previous;
+
+                return response;
+            }
+        }
+
+        BanListTransport.Response fetched = this.transport.fetch(
+                url,
+                previous != null ? previous.entityTag : null,
+                previous != null ? previous.lastModified : null,
+                this.getEnvironment().getConnectTimeout(),
+                this.getEnvironment().getReadTimeout()
+        );
+
+        source.recordBytes(fetched.bytesReceived, fetched.body.length);
+
+        // If this is a HTTP response, check the response code
+        if (fetched.code != -1) {
+            response.status = "HTTP " + fetched.code + (fetched.compressed ? " (gzip)" : "");
+            source.recordHttpStatus(fetched.code);
+
+            // The ban list hasn't changed, reuse the previously parsed one
+            if (fetched.code == HttpURLConnection.HTTP_NOT_MODIFIED && previous != null) {
+                response.unchanged = previous;
+
+                return response;
+            }
+
+            // We don't know how to handle non-OK response codes, but the server may say when to try again
+            if (fetched.code != HttpURLConnection.HTTP_OK) {
+                throw new HttpStatusException(fetched.code, Backoff.parseRetryAfter(fetched.retryAfter, System.currentTimeMillis()));
+            }
+
+            response.entityTag = fetched.entityTag;
+            response.lastModified = fetched.lastModified;
+        }
+
+        response.body = fetched.body;
+
+        return response;
+    }
+
+    /**
+     * Fetches a live version of the ban list from every source, merged in order of precedence.
+     * If the plugin is using the {@link CacheMode#SNAPSHOT snapshot cache mode}, the latest snapshot will be used instead.
+     * If the ban list couldn't be fetched, the last ban list that was fetched successfully is used instead.
      * @return A {@link CompletableFuture future} containing a {@link List list} of {@link BanEntry ban entries}.
      *         Not all ban entries in the result may be active; some may be expired.
      *         It should be assumed that the list is un-modifiable.
+     *         Completes exceptionally if the ban list couldn't be fetched and there's no previously fetched ban list to use.
      */
     public @NotNull CompletableFuture<@NotNull List<@NotNull BanEntry>> retrieve() {
-        return CompletableFuture.supplyAsync(() -> this.getBanEntries(entry -> true));
+        BanListSnapshot snapshot = this.getSnapshot();
+
+        if (snapshot != null) {
+            return CompletableFuture.completedFuture(snapshot.getEntries());
+        }
+
+        // Parse the whole ban list at once, so it can be saved to disk
+        return this.supplyAsync(() -> {
+            try {
+                return this.fetchAll();
+            } catch (IOException e) {
+                return this.useLastKnown(e, this::getLastKnownEntries);
+            }
+        });
+    }
+
+    /**
+     * Gets the bans matching a {@link BanQuery query}, whether active or expired.
+     * If the plugin is using the {@link CacheMode#SNAPSHOT snapshot cache mode}, the query is run against the latest
+     * snapshot's indexes. Otherwise, the ban list is fetched and every ban is checked.
+     * @param query The query
+     * @return A {@link CompletableFuture future} containing a {@link List list} of the matching bans.
+     */
+    public @NotNull CompletableFuture<@NotNull List<@NotNull BanEntry>> query(@NotNull BanQuery query) {
+        BanListSnapshot snapshot = this.getSnapshot();
+
+        if (snapshot != null) {
+            return CompletableFuture.completedFuture(snapshot.query(query));
+        }
+
+        // Only the player's bans have to be parsed
+        if (query.player != null) {
+            return this.getBanEntries(query.player).thenApply(entries -> entries.stream().filter(query).collect(Collectors.toList()));
+        }
+
+        return this.supplyAsync(() -> this.getBanEntries(query));
+    }
+
+    /**
+     * Gets every active ban.
+     * If the plugin is using the {@link CacheMode#SNAPSHOT snapshot cache mode}, the latest snapshot will be used instead.
+     * @return A {@link CompletableFuture future} containing an un-modifiable {@link List list} of the active bans.
+     */
+    public @NotNull CompletableFuture<@NotNull List<@NotNull BanEntry>> getActiveBans() {
+        BanListSnapshot snapshot = this.getSnapshot();
+
+        if (snapshot != null) {
+            return CompletableFuture.completedFuture(snapshot.getExpiryIndex().getActiveBans());
+        }
+
+        return this.retrieve().thenApply(entries -> Collections.unmodifiableList(
+                entries.stream().filter(BanEntry::isActive).collect(Collectors.toList())
+        ));
     }
 
     /**
      * Gets all bans related to the specified {@link UUID}, whether active or expired.
+     * If the plugin is using the {@link CacheMode#SNAPSHOT snapshot cache mode}, the latest snapshot will be used instead
+     * of fetching the ban list.
+     * If the ban list couldn't be fetched, the last ban list that was fetched successfully is used instead.
      * @param uuid The player's UUID
      * @return A {@link CompletableFuture completable future} containing a {@link List} containing ban entries
      *         related to the specified player UUID. If there are no entries, the list will be empty.
+     *         Completes exceptionally if the ban list couldn't be fetched and there's no previously fetched ban list to use.
      */
     public @NotNull CompletableFuture<@NotNull List<@NotNull BanEntry>> getBanEntries(@NotNull UUID uuid) {
-        return CompletableFuture.supplyAsync(() -> this.getBanEntries(entry -> entry.playerID.equals(uuid)));
+        BanListSnapshot snapshot = this.getSnapshot();
+
+        if (snapshot != null) {
+            return CompletableFuture.completedFuture(snapshot.getBanEntries(uuid));
+        }
+
+        return this.supplyAsync(() -> {
+            try (Stream<BanEntry> entries = this.stream(Collections.singleton(uuid))) {
+                return entries.collect(Collectors.toList());
+            } catch (IOException | UncheckedIOException e) {
+                return this.useLastKnown(e, () -> this.getLastKnownBanEntries(uuid));
+            }
+        });
+    }
+
+    /**
+     * Gets all bans related to each of the specified {@link UUID UUIDs}, whether active or expired.
+     * The ban list is only fetched and read once for every player, or each player is looked up in the latest snapshot
+     * if the plugin is using the {@link CacheMode#SNAPSHOT snapshot cache mode}.
+     * @param uuids The players' UUIDs
+     * @return A {@link CompletableFuture completable future} containing a {@link Map map} of each player UUID to a
+     *         {@link List list} of the ban entries related to it. Every UUID is in the map; if there are no entries,
+     *         the list will be empty. If the ban list couldn't be fetched, the last ban list that was fetched successfully is used instead.
+     *         Completes exceptionally if the ban list couldn't be fetched and there's no previously fetched ban list to use.
+     */
+    public @NotNull CompletableFuture<@NotNull Map<@NotNull UUID, @NotNull List<@NotNull BanEntry>>> getBanEntries(@NotNull Collection<@NotNull UUID> uuids) {
+        Set<UUID> players = new HashSet<>(uuids);
+        BanListSnapshot snapshot = this.getSnapshot();
+
+        if (players.isEmpty()) {
+            return CompletableFuture.completedFuture(new HashMap<>());
+        }
+
+        if (snapshot != null) {
+            Map<UUID, List<BanEntry>> result = new HashMap<>();
+
+            for (UUID player : players) {
+                result.put(player, snapshot.getBanEntries(player));
+            }
+
+            return CompletableFuture.completedFuture(result);
+        }
+
+        return this.supplyAsync(() -> {
+            Map<UUID, List<BanEntry>> result = new HashMap<>();
+
+            for (UUID player : players) {
+                result.put(player, new ArrayList<>(0));
+            }
+
+            // Read the ban list once. Rows are checked against the set of players by their UUID column first,
+            // so only the rows related to one of the players are deserialized.
+            try (Stream<BanEntry> entries = this.stream(players)) {
+                entries.forEach(entry -> result.get(entry.getPlayerID()).add(entry));
+            } catch (IOException | UncheckedIOException e) {
+                return this.useLastKnown(e, () -> this.getLastKnownBanEntries(players));
+            }
+
+            for (Map.Entry<UUID, List<BanEntry>> entry : result.entrySet()) {
+                entry.setValue(Collections.unmodifiableList(entry.getValue()));
+            }
+
+            return result;
+        });
+    }
+
+    /**
+     * Gets the first active ban related to the specified {@link UUID}.
+     * The ban list stops being read as soon as an active ban is found.
+     * @param uuid The player's UUID
+     * If the ban list couldn't be fetched, the last ban list that was fetched successfully is used instead.
+     * @param uuid The player's UUID
+     * @return A {@link CompletableFuture completable future} containing the first active ban related to the specified
+     *         player UUID, or an empty {@link Optional optional} if the player isn't banned.
+     *         Completes exceptionally if the ban list couldn't be fetched and there's no previously fetched ban list to use.
+     */
+    public @NotNull CompletableFuture<@NotNull Optional<BanEntry>> getActiveBan(@NotNull UUID uuid) {
+        BanListSnapshot snapshot = this.getSnapshot();
+
+        if (snapshot != null) {
+            return CompletableFuture.completedFuture(
+                    snapshot.getBanEntries(uuid).stream().filter(BanEntry::isActive).findFirst()
+            );
+        }
+
+        return this.supplyAsync(() -> {
+            try (Stream<BanEntry> entries = this.stream(Collections.singleton(uuid))) {
+                return entries.filter(BanEntry::isActive).findFirst();
+            } catch (IOException | UncheckedIOException e) {
+                List<BanEntry> lastKnown = this.useLastKnown(e, () -> this.getLastKnownBanEntries(uuid));
+
+                return lastKnown.stream().filter(BanEntry::isActive).findFirst();
+            }
+        });
+    }
+
+    /**
+     * Gets the result of a lookup from the last ban list that was fetched successfully, used when the ban list couldn't be fetched.
+     * @param e The reason the ban list couldn't be fetched
+     * @param lastKnown Gets the result from the last fetched ban list, or null if there isn't one
+     * @return The result from the last fetched ban list
+     * @throws CompletionException If there's no previously fetched ban list to use, since an empty result would let banned players in.
+     */
+    private <T> @NotNull T useLastKnown(@NotNull Exception e, @NotNull Supplier<@Nullable T> lastKnown) {
+        T result = lastKnown.get();
+
+        if (result == null) {
+            throw new CompletionException(e);
+        }
+
+        this.logFetchFailure("Couldn't fetch records, using the last fetched ban list", e);
+
+        return result;
+    }
+
+    /**
+     * Logs a failed lookup, at most once a minute.
+     * @param message The message
+     * @param e The reason the lookup failed
+     */
+    private void logFetchFailure(@NotNull String message, @NotNull Exception e) {
+        long skipped = this.fetchFailureLog.tryLog();
+
+        if (skipped != -1L) {
+            this.getEnvironment().getLogger().log(Level.SEVERE, message + LogThrottle.getSkippedSuffix(skipped), e);
+        }
+    }
+
+    /**
+     * Gets all bans related to the specified {@link UUID} from the last ban list that was fetched successfully,
+     * without fetching the ban list. Used when the ban list can't be fetched in time.
+     * @param uuid The player's UUID
+     * @return A {@link List list} of ban entries related to the specified player UUID,
+     *         or null if there's no previously fetched ban list to use.
+     */
+    public @Nullable List<@NotNull BanEntry> getLastKnownBanEntries(@NotNull UUID uuid) {
+        BanListSnapshot snapshot = this.snapshot;
+
+        if (snapshot != null) {
+            return snapshot.getBanEntries(uuid);
+        }
+
+        List<BanListSource> sources = this.sources;
+        List<List<BanEntry>> lists = new ArrayList<>(sources.size());
+        BanListSnapshot stored = this.storedSnapshot;
+        boolean known = false;
+
+        // Use each source's last parsed ban list, or its bans from the saved ban list
+        for (BanListSource source : sources) {
+            FetchedBanList fetched = source.latest;
+
+            if (fetched != null) {
+                known = true;
+
+                // Most players have no bans, so skip scanning the entries for them
+                lists.add(fetched.playerFilter.mightContain(uuid)
+                        ? fetched.entries.stream().filter(entry -> entry.isPlayer(uuid)).collect(Collectors.toList())
+                        : Collections.emptyList());
+            } else if (stored != null) {
+                known = true;
+
+                lists.add(stored.getBanEntries(uuid).stream().filter(entry -> entry.source.equals(source.name)).collect(Collectors.toList()));
+            } else {
+                lists.add(Collections.emptyList());
+            }
+        }
+
+        return known ? mergeSources(lists) : null;
+    }
+
+    /**
+     * Gets all bans related to each of the specified {@link UUID UUIDs} from the last ban list that was fetched successfully,
+     * without fetching the ban list.
+     * @param players The players' UUIDs
+     * @return A {@link Map map} of each player UUID to an un-modifiable {@link List list} of the ban entries related to it,
+     *         or null if there's no previously fetched ban list to use.
+     */
+    private @Nullable Map<@NotNull UUID, @NotNull List<@NotNull BanEntry>> getLastKnownBanEntries(@NotNull Set<@NotNull UUID> players) {
+        Map<UUID, List<BanEntry>> result = new HashMap<>();
+
+        for (UUID player : players) {
+            List<BanEntry> bans = this.getLastKnownBanEntries(player);
+
+            if (bans == null) {
+                return null;
+            }
+
+            result.put(player, Collections.unmodifiableList(bans));
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the latest {@link BanListSnapshot snapshot} of the ban list.
+     * @return The latest snapshot, or null if the plugin isn't using the {@link CacheMode#SNAPSHOT snapshot cache mode}
+     *         or a snapshot hasn't been created yet.
+     */
+    public @Nullable BanListSnapshot getSnapshot() {
+        return this.getEnvironment().getCacheMode() == CacheMode.SNAPSHOT ? this.snapshot : null;
+    }
+
+    /**
+     * Fetches every source and replaces the current {@link BanListSnapshot snapshot} with them.
+     * Each source replaces its part of the snapshot as soon as it's fetched, so a slow source doesn't delay the others.
+     * If a source couldn't be fetched, its bans from the current snapshot are kept.
+     * @return A {@link CompletableFuture future} containing the new snapshot.
+     *         Completes exceptionally if any of the sources couldn't be fetched.
+     */
+    public @NotNull CompletableFuture<@NotNull BanListSnapshot> refreshSnapshot() {
+        List<BanListSource> sources = this.sources;
+        CompletableFuture<?>[] refreshes = new CompletableFuture<?>[sources.size()];
+
+        for (int i = 0; i < refreshes.length; i++) {
+            refreshes[i] = this.refreshSnapshot(sources.get(i));
+        }
+
+        return CompletableFuture.allOf(refreshes).thenApply(ignored -> Objects.requireNonNull(this.snapshot));
+    }
+
+    /**
+     * Runs a task on the executor.
+     * If the executor is full, the task isn't run at all, so lookups never block the thread that asked for them,
+     * like a player's login thread or the server's main thread.
+     * @param task The task
+     * @return A {@link CompletableFuture future} containing the task's result.
+     *         Completes exceptionally if the executor is full or shut down.
+     */
+    private <T> @NotNull CompletableFuture<T> supplyAsync(@NotNull Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, this.getEnvironment().getExecutor());
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+
+            return future;
+        }
+    }
+
+    /**
+     * Fetches a source and replaces its part of the current {@link BanListSnapshot snapshot}.
+     * If the source couldn't be fetched, its bans from the current snapshot are kept.
+     * @param source The source
+     * @return A {@link CompletableFuture future} containing the new snapshot.
+     *         Completes exceptionally if the source couldn't be fetched.
+     */
+    public @NotNull CompletableFuture<@NotNull BanListSnapshot> refreshSnapshot(@NotNull BanListSource source) {
+        return this.supplyAsync(() -> {
+            try {
+                source.latest = this.fetch(source);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+
+            return this.updateSnapshot();
+        });
+    }
+
+    /**
+     * Replaces the current {@link BanListSnapshot snapshot} with a snapshot of the latest ban list from every source.
+     * If there was a previous snapshot, the differences between them are published as events.
+     * @return The new snapshot, or the current one if none of the sources' ban lists have changed.
+     */
+    private @NotNull BanListSnapshot updateSnapshot() {
+        BanListSnapshot previous;
+        BanListSnapshot snapshot;
+
+        synchronized (this) {
+            previous = this.snapshot;
+
+            List<FetchedBanList> fetched = new ArrayList<>();
+
+            for (BanListSource source : this.sources) {
+                fetched.add(source.latest);
+            }
+
+            // None of the ban lists have changed since the last refresh, keep the current snapshot
+            if (previous != null && fetched.equals(this.snapshotSources)) {
+                return previous;
+            }
+
+            snapshot = new BanListSnapshot(this.mergeLatestEntries());
+
+            // Swap in the new snapshot; lookups in progress keep using the old one
+            this.snapshotSources = fetched;
+            this.snapshot = snapshot;
+        }
+
+        if (previous != null) {
+            BanListDiff diff = BanListDiff.compute(previous, snapshot);
+
+            if (!diff.isEmpty()) {
+                this.publishDiff(snapshot, diff);
+            }
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Calls the events for the differences between two snapshots.
+     * @param snapshot The new snapshot
+     * @param diff The differences from the previous snapshot
+     */
+    private void publishDiff(@NotNull BanListSnapshot snapshot, @NotNull BanListDiff diff) {
+        this.getEnvironment().getLogger().info(String.format("The ban list has changed: %s", diff));
+
+        BanListEnvironment environment = this.getEnvironment();
+
+        for (BanEntry ban : diff.getAdded()) {
+            environment.callEvent(new BanAddedEvent(ban));
+        }
+
+        for (BanEntry ban : diff.getRemoved()) {
+            environment.callEvent(new BanRemovedEvent(ban));
+        }
+
+        for (BanListDiff.Change change : diff.getChanged()) {
+            environment.callEvent(new BanChangedEvent(change.previous, change.current));
+        }
+
+        environment.callEvent(new BanListUpdateEvent(snapshot, diff));
+    }
+
+    /**
+     * Starts watching every source that's a local file for changes.
+     * Each file is read once now, then only each time it changes, instead of every time the ban list is fetched.
+     * If the plugin is using the {@link CacheMode#SNAPSHOT snapshot cache mode}, the snapshot is replaced as soon as
+     * a file changes instead of waiting for the next refresh.
+     * @throws IOException If a file's directory couldn't be watched.
+     */
+    public synchronized void startWatching() throws IOException {
+        for (BanListSource source : this.sources) {
+            URL url = source.url;
+
+            if (source.fileWatcher != null || !url.getProtocol().equals("file")) {
+                continue;
+            }
+
+            Path path;
+
+            try {
+                path = Paths.get(url.toURI());
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                throw new IOException("Invalid file URL " + url, e);
+            }
+
+            source.fileWatcher = new FileWatcher(this.getEnvironment(), path, () -> this.reloadFile(source, path));
+        }
+    }
+
+    /**
+     * Stops watching the sources' files for changes.
+     */
+    public synchronized void stopWatching() {
+        for (BanListSource source : this.sources) {
+            if (source.fileWatcher == null) {
+                continue;
+            }
+
+            try {
+                source.fileWatcher.close();
+            } catch (IOException e) {
+                this.getEnvironment().getLogger().log(Level.WARNING, "Couldn't stop watching the ban list file", e);
+            }
+
+            source.fileWatcher = null;
+            source.watchedBanList = null;
+        }
+    }
+
+    /**
+     * Reads a source's ban list from its watched file after it changed.
+     * If the file couldn't be read, the previously read ban list is kept.
+     * @param source The source
+     * @param path The file
+     */
+    private void reloadFile(@NotNull BanListSource source, @NotNull Path path) {
+        FetchedBanList fetched;
+
+        try {
+            fetched = this.readFile(source, path);
+        } catch (IOException | UncheckedIOException e) {
+            this.getEnvironment().getLogger().log(Level.WARNING, String.format("Couldn't read the ban list from %s, keeping the previous one", path), e);
+
+            return;
+        }
+
+        source.watchedBanList = fetched;
+
+        if (this.getEnvironment().getCacheMode() == CacheMode.SNAPSHOT) {
+            this.updateSnapshot();
+        }
+    }
+
+    /**
+     * Reads and parses a source's ban list from a local file using a {@link FileChannel file channel}.
+     * @param source The source
+     * @param path The file
+     * @return The parsed ban list
+     * @throws IOException If the file couldn't be read.
+     */
+    private @NotNull FetchedBanList readFile(@NotNull BanListSource source, @NotNull Path path) throws IOException {
+        Response response = new Response(source.url.toString(), this.getEnvironment().isConditionalRequests());
+        ByteBuffer buffer;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            response.fileModifiedTime = Files.getLastModifiedTime(path).toMillis();
+            response.fileSize = channel.size();
+
+            if (response.fileSize > Integer.MAX_VALUE) {
+                throw new IOException("Ban list file is too large");
+            }
+
+            // Read the whole file at once. The file isn't mapped, since that would prevent it from being
+            // replaced or truncated on some platforms until the mapping is garbage collected.
+            buffer = ByteBuffer.allocate((int) response.fileSize);
+
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+                // Keep reading until the buffer is full or the end of the file is reached
+            }
+        }
+
+        source.recordBytes(buffer.position(), buffer.position());
+
+        return this.parse(source, response, buffer.array(), buffer.position());
+    }
+
+    /**
+     * Represents a downloaded ban list. Either the parsed ban list or the ban list's data will be present.
+     */
+    static final class Download {
+
+        /* The response the ban list was downloaded from */
+        final @NotNull Response response;
+
+        /* The parsed ban list, if it was unchanged or had to be parsed to be remembered */
+        final @Nullable FetchedBanList fetched;
+
+        /* The ban list's data, if it should be parsed lazily */
+        final @Nullable byte[] body;
+
+        Download(@NotNull Response response, @Nullable FetchedBanList fetched, @Nullable byte[] body) {
+            this.response = response;
+            this.fetched = fetched;
+            this.body = body;
+        }
+
+    }
+
+    /**
+     * Represents a response from the ban list's source.
+     */
+    private static final class Response {
+
+        /* The URL of the ban list */
+        final @NotNull String url;
+
+        /* If conditional requests are enabled */
+        final boolean conditional;
+
+        /* The previously fetched ban list, if the source hasn't changed since */
+        @Nullable FetchedBanList unchanged;
+
+        /* The status of the response, like the HTTP response code */
+        @NotNull String status = "OK";
+
+        /* The ban list's data. Will be null if the source hasn't changed. */
+        @Nullable byte[] body;
+
+        /* The validators returned by the source */
+        @Nullable String entityTag;
+        @Nullable String lastModified;
+        long fileModifiedTime = -1L;
+        long fileSize = -1L;
+
+        Response(@NotNull String url, boolean conditional) {
+            this.url = url;
+            this.conditional = conditional;
+        }
+
+        /**
+         * Gets if the ban list in this response can be revalidated by the next fetch.
+         * @return If the ban list should be remembered for conditional requests
+         */
+        boolean isRevalidatable() {
+            return this.conditional && (this.entityTag != null || this.lastModified != null || this.fileModifiedTime != -1L);
+        }
+
     }
 
 }
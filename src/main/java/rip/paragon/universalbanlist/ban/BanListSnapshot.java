@@ -0,0 +1,260 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import rip.paragon.universalbanlist.util.UUIDBloomFilter;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * @since October 17, 2026
+ * Represents an immutable, point-in-time copy of the ban list, indexed by player {@link UUID}.
+ *
+ * The player index is a pair of sorted arrays holding the bits of each ban's UUID, searched with a binary search,
+ * so no {@link UUID} or {@link List list} is kept for every banned player.
+ */
+public final class BanListSnapshot {
+
+    /* The false positive rate of player filters */
+    private static final double PLAYER_FILTER_FALSE_POSITIVE_RATE = 0.01D;
+
+    /* Orders ban entries by their player's UUID, keeping the order of each player's bans */
+    private static final Comparator<BanEntry> PLAYER_ORDER = Comparator
+            .comparingLong(BanEntry::getPlayerMostSigBits)
+            .thenComparingLong(BanEntry::getPlayerLeastSigBits);
+
+    /* Every ban entry in the snapshot, in the same order as the source, or sorted by UUID if loaded from disk */
+    private final @NotNull List<@NotNull BanEntry> entries;
+
+    /* Every ban entry sorted by player UUID, and the most and least significant bits of each one's UUID */
+    private final @NotNull BanEntry[] entriesByPlayer;
+    private final @NotNull long[] playerMostSigBits;
+    private final @NotNull long[] playerLeastSigBits;
+
+    /* The UUIDs of every player with bans in the snapshot, so players without bans can be skipped quickly */
+    private final @NotNull UUIDBloomFilter playerFilter;
+
+    /* The ban entries ordered by when they expire */
+    private final @NotNull ExpiryIndex expiryIndex;
+
+    /* The indexes used to run queries. Created the first time a query is run, since most servers never run one. */
+    private volatile @Nullable BanIndexes indexes;
+
+    /* The time this snapshot was created, in milliseconds since the epoch */
+    private final long creationTime;
+
+    public BanListSnapshot(@NotNull Collection<@NotNull BanEntry> entries) {
+        this(entries, System.currentTimeMillis());
+    }
+
+    public BanListSnapshot(@NotNull Collection<@NotNull BanEntry> entries, long creationTime) {
+        BanEntry[] entriesByPlayer = entries.toArray(new BanEntry[0]);
+
+        // The sort is stable, so each player's bans stay in the same order as the source
+        Arrays.sort(entriesByPlayer, PLAYER_ORDER);
+
+        this.playerMostSigBits = new long[entriesByPlayer.length];
+        this.playerLeastSigBits = new long[entriesByPlayer.length];
+
+        for (int i = 0; i < entriesByPlayer.length; i++) {
+            this.playerMostSigBits[i] = entriesByPlayer[i].getPlayerMostSigBits();
+            this.playerLeastSigBits[i] = entriesByPlayer[i].getPlayerLeastSigBits();
+        }
+
+        this.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+        this.entriesByPlayer = entriesByPlayer;
+        this.playerFilter = createPlayerFilter(entries);
+        this.expiryIndex = new ExpiryIndex(entries);
+        this.creationTime = creationTime;
+    }
+
+    /**
+     * Gets every {@link BanEntry ban entry} in this snapshot, whether active or expired.
+     * @return An un-modifiable {@link List list} of every {@link BanEntry ban entry}
+     */
+    public @NotNull List<@NotNull BanEntry> getEntries() {
+        return this.entries;
+    }
+
+    /**
+     * Gets all bans related to the specified {@link UUID}, whether active or expired.
+     * @param uuid The player's UUID
+     * @return An un-modifiable {@link List list} of ban entries related to the specified player UUID.
+     *         If there are no entries, the list will be empty.
+     */
+    public @NotNull List<@NotNull BanEntry> getBanEntries(@NotNull UUID uuid) {
+        if (!this.mightHaveBans(uuid)) {
+            return Collections.emptyList();
+        }
+
+        long mostSigBits = uuid.getMostSignificantBits();
+        long leastSigBits = uuid.getLeastSignificantBits();
+        int start = this.findFirstBan(mostSigBits, leastSigBits);
+        int end = start;
+
+        while (end < this.entriesByPlayer.length
+                && this.playerMostSigBits[end] == mostSigBits
+                && this.playerLeastSigBits[end] == leastSigBits) {
+            end++;
+        }
+
+        if (start == end) {
+            return Collections.emptyList();
+        }
+
+        if (end - start == 1) {
+            return Collections.singletonList(this.entriesByPlayer[start]);
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(this.entriesByPlayer, start, end)));
+    }
+
+    /**
+     * Finds the first ban of a player in the ban entries sorted by player UUID.
+     * @param mostSigBits The most significant bits of the player's UUID
+     * @param leastSigBits The least significant bits of the player's UUID
+     * @return The index of the player's first ban, or the index it would be at if they have no bans
+     */
+    private int findFirstBan(long mostSigBits, long leastSigBits) {
+        int low = 0;
+        int high = this.entriesByPlayer.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            int comparison = Long.compare(this.playerMostSigBits[middle], mostSigBits);
+
+            if (comparison == 0) {
+                comparison = Long.compare(this.playerLeastSigBits[middle], leastSigBits);
+            }
+
+            if (comparison < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Checks if a player might have bans in this snapshot, whether active or expired, without allocating anything.
+     * @param uuid The player's UUID
+     * @return False if the player definitely has no bans, true if they might.
+     */
+    public boolean mightHaveBans(@NotNull UUID uuid) {
+        return this.playerFilter.mightContain(uuid);
+    }
+
+    /**
+     * Gets the filter used to check if players might have bans in this snapshot.
+     * @return The player filter
+     */
+    public @NotNull UUIDBloomFilter getPlayerFilter() {
+        return this.playerFilter;
+    }
+
+    /**
+     * Gets the index of the ban entries in this snapshot ordered by when they expire,
+     * used to find active bans without checking every ban.
+     * @return The expiry index
+     */
+    public @NotNull ExpiryIndex getExpiryIndex() {
+        return this.expiryIndex;
+    }
+
+    /**
+     * Gets the bans in this snapshot matching a {@link BanQuery query}.
+     * The most selective condition of the query is looked up in this snapshot's indexes, then the bans found are checked
+     * against the rest of the query. Every ban is checked only if none of the query's conditions are indexed.
+     * @param query The query
+     * @return An un-modifiable {@link List list} of the matching bans. The order depends on which index was used.
+     */
+    public @NotNull List<@NotNull BanEntry> query(@NotNull BanQuery query) {
+        List<BanEntry> candidates;
+
+        if (query.player != null) {
+            candidates = this.getBanEntries(query.player);
+        } else if (query.caseURL != null) {
+            candidates = this.getIndexes().getByCaseURL(query.caseURL);
+        } else if (query.username != null) {
+            candidates = this.getIndexes().getByUsername(query.username);
+        } else if (query.usernamePrefix != null) {
+            candidates = this.getIndexes().getByUsernamePrefix(query.usernamePrefix);
+        } else if (query.hasBanTimeRange()) {
+            candidates = this.getIndexes().getByBanTime(query.bannedFrom, query.bannedUntil);
+        } else if (query.activeOnly) {
+            candidates = this.expiryIndex.getActiveBans();
+        } else {
+            candidates = this.entries;
+        }
+
+        return Collections.unmodifiableList(candidates.stream().filter(query).collect(Collectors.toList()));
+    }
+
+    private @NotNull BanIndexes getIndexes() {
+        BanIndexes indexes = this.indexes;
+
+        if (indexes == null) {
+            synchronized (this) {
+                indexes = this.indexes;
+
+                if (indexes == null) {
+                    indexes = new BanIndexes(this.entries);
+                    this.indexes = indexes;
+                }
+            }
+        }
+
+        return indexes;
+    }
+
+    /**
+     * Creates a filter containing the UUID of every player with a ban.
+     * @param entries The ban entries
+     * @return The player filter
+     */
+    static @NotNull UUIDBloomFilter createPlayerFilter(@NotNull Collection<@NotNull BanEntry> entries) {
+        UUIDBloomFilter filter = new UUIDBloomFilter(entries.size(), PLAYER_FILTER_FALSE_POSITIVE_RATE);
+
+        for (BanEntry entry : entries) {
+            filter.add(entry.getPlayerMostSigBits(), entry.getPlayerLeastSigBits());
+        }
+
+        return filter;
+    }
+
+    /**
+     * Gets the time this snapshot was created.
+     * @return The creation time, in milliseconds since the epoch.
+     */
+    public long getCreationTime() {
+        return this.creationTime;
+    }
+
+}
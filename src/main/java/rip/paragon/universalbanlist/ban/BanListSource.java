@@ -0,0 +1,395 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import rip.paragon.universalbanlist.util.Backoff;
+import rip.paragon.universalbanlist.util.LatencyHistogram;
+
+import java.net.URL;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @since October 17, 2026
+ * Represents one of the ban lists the plugin fetches bans from, like the Universal Ban List or a network's own ban list.
+ *
+ * Every source is fetched separately, so a slow source doesn't delay the others. If the same ban is on more than one
+ * source, only the ban from the source with the highest precedence is used.
+ */
+public final class BanListSource {
+
+    /* The name of the source, which every ban from it is tagged with */
+    public final @NotNull String name;
+
+    /* The URL to receive the ban list's CSV data from */
+    public final @NotNull URL url;
+
+    /* How often the source is refreshed in snapshot mode, in seconds */
+    public final long refreshInterval;
+
+    /* The precedence of the source. Lower numbers take precedence over higher numbers. */
+    public final int precedence;
+
+    /* The last fetched ban list, used to make conditional requests. Will be null if it can't be revalidated. */
+    volatile @Nullable FetchedBanList lastFetched;
+
+    /* The latest ban list parsed from the source. Will be null if the whole ban list hasn't been parsed yet. */
+    volatile @Nullable FetchedBanList latest;
+
+    /* The watcher reloading the ban list when its file changes. Will be null if the source isn't a watched file. */
+    @Nullable FileWatcher fileWatcher;
+
+    /* The ban list read by the file watcher the last time the file changed */
+    volatile @Nullable FetchedBanList watchedBanList;
+
+    /* The download in progress, shared by every lookup made while it's running */
+    final @NotNull AtomicReference<@Nullable CompletableFuture<BanListService.Download>> inFlightDownload = new AtomicReference<>();
+
+    /* The report of the malformed records from the last time the whole ban list was read */
+    volatile @Nullable MalformedRowReport malformedRowReport;
+
+    /* The last successful download, used while requests to the source are held back */
+    volatile @Nullable BanListService.Download lastDownload;
+
+    /* The amount of fetches in a row that failed. Guarded by this source. */
+    private int consecutiveFailures;
+
+    /* The time requests can be made to the source again after failures, in milliseconds since the epoch. Guarded by this source. */
+    private long retryTime;
+
+    /* The time the last request was made to the source, in milliseconds since the epoch, or -1 if there wasn't one. Guarded by this source. */
+    private long lastRequestTime = -1L;
+
+    /* The amount of fetches served from the last download because requests to the source were held back */
+    private final @NotNull LongAdder heldBackCount = new LongAdder();
+
+    /* The amount of fetches that succeeded, including fetches where the ban list was unchanged */
+    private final @NotNull LongAdder fetchCount = new LongAdder();
+
+    /* The amount of fetches that failed */
+    private final @NotNull LongAdder failureCount = new LongAdder();
+
+    /* The time the last fetch took, in nanoseconds, or -1 if the source hasn't been fetched yet */
+    private volatile long lastFetchDuration = -1L;
+
+    /* The status of the last fetch, like the HTTP response code or the reason it failed */
+    private volatile @Nullable String lastStatus;
+
+    /* The time the last successful fetch finished, in milliseconds since the epoch, or -1 if there wasn't one */
+    private volatile long lastSuccessTime = -1L;
+
+    /* The time each fetch took, whether it succeeded or not */
+    private final @NotNull LatencyHistogram fetchTimes = new LatencyHistogram();
+
+    /* The amount of bytes downloaded or read from the source */
+    private final @NotNull LongAdder bytesDownloaded = new LongAdder();
+
+    /* The amount of bytes of ban list data downloaded or read from the source, after decompressing */
+    private final @NotNull LongAdder bytesDecoded = new LongAdder();
+
+    /* The amount of responses with each HTTP response code */
+    private final @NotNull Map<@NotNull Integer, @NotNull LongAdder> httpStatusCounts = new ConcurrentHashMap<>();
+
+    /* The time each full parse of the ban list took */
+    private final @NotNull LatencyHistogram parseTimes = new LatencyHistogram();
+
+    /* The amount of rows read by full parses of the ban list */
+    private final @NotNull LongAdder rowsRead = new LongAdder();
+
+    /* The amount of malformed rows skipped by full parses of the ban list */
+    private final @NotNull LongAdder rowsRejected = new LongAdder();
+
+    public BanListSource(@NotNull String name, @NotNull URL url, long refreshInterval, int precedence) {
+        this.name = name;
+        this.url = url;
+        this.refreshInterval = refreshInterval;
+        this.precedence = precedence;
+    }
+
+    /**
+     * Reserves a request to the source, if one can be made now. Requests are held back while backing off after
+     * failures, and until the minimum interval has passed since the last request.
+     * @param now The current time, in milliseconds since the epoch
+     * @param minimumInterval The minimum time between requests, in milliseconds
+     * @return 0 if the request can be made now, otherwise the time until it can be made, in milliseconds.
+     */
+    synchronized long reserveRequest(long now, long minimumInterval) {
+        long wait = this.retryTime - now;
+
+        if (this.lastRequestTime != -1L) {
+            wait = Math.max(wait, this.lastRequestTime + minimumInterval - now);
+        }
+
+        if (wait > 0L) {
+            this.heldBackCount.increment();
+
+            return wait;
+        }
+
+        this.lastRequestTime = now;
+
+        return 0L;
+    }
+
+    /**
+     * Backs off after a failed fetch, so the source isn't contacted again until the delay has passed.
+     * @param now The current time, in milliseconds since the epoch
+     * @param initial The delay after the first failure in a row, in milliseconds
+     * @param max The maximum delay, in milliseconds
+     * @param retryAfter The delay the source asked for, in milliseconds, or -1 if it didn't ask for one
+     * @return The delay, in milliseconds
+     */
+    synchronized long backOff(long now, long initial, long max, long retryAfter) {
+        this.consecutiveFailures++;
+
+        // The source's own delay is used if it's longer, up to a day in case it's unreasonable
+        long delay = Math.max(
+                Backoff.getFailureDelay(this.consecutiveFailures, initial, max, ThreadLocalRandom.current().nextDouble()),
+                Math.min(retryAfter, TimeUnit.DAYS.toMillis(1L))
+        );
+
+        this.retryTime = now + delay;
+
+        return delay;
+    }
+
+    /**
+     * Stops backing off after a successful fetch.
+     */
+    synchronized void resetBackoff() {
+        this.consecutiveFailures = 0;
+        this.retryTime = 0L;
+    }
+
+    /**
+     * Records a successful fetch.
+     * @param duration The time the fetch took, in nanoseconds
+     * @param status The status of the fetch
+     */
+    void recordFetch(long duration, @NotNull String status) {
+        this.fetchCount.increment();
+        this.fetchTimes.record(duration);
+        this.lastFetchDuration = duration;
+        this.lastStatus = status;
+        this.lastSuccessTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Records a failed fetch.
+     * @param duration The time until the fetch failed, in nanoseconds
+     * @param status The reason the fetch failed
+     */
+    void recordFailure(long duration, @NotNull String status) {
+        this.failureCount.increment();
+        this.fetchTimes.record(duration);
+        this.lastFetchDuration = duration;
+        this.lastStatus = status;
+    }
+
+    /**
+     * Records the amount of bytes downloaded or read from the source.
+     * @param bytes The amount of bytes
+     * @param decodedBytes The amount of bytes of ban list data they decompressed to
+     */
+    void recordBytes(long bytes, long decodedBytes) {
+        this.bytesDownloaded.add(bytes);
+        this.bytesDecoded.add(decodedBytes);
+    }
+
+    /**
+     * Records a HTTP response from the source.
+     * @param code The HTTP response code
+     */
+    void recordHttpStatus(int code) {
+        this.httpStatusCounts.computeIfAbsent(code, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records a full parse of the ban list.
+     * @param duration The time the parse took, in nanoseconds
+     */
+    void recordParse(long duration) {
+        this.parseTimes.record(duration);
+    }
+
+    /**
+     * Records the rows read by a full read of the ban list.
+     * @param report The report of the read
+     */
+    void recordRows(@NotNull MalformedRowReport report) {
+        this.rowsRead.add(report.getRowsRead());
+        this.rowsRejected.add(report.getTotalFailures());
+    }
+
+    /**
+     * Gets the amount of fetches in a row from this source that failed.
+     * @return The amount of failures, or 0 if the last fetch succeeded
+     */
+    public synchronized int getConsecutiveFailures() {
+        return this.consecutiveFailures;
+    }
+
+    /**
+     * Gets the time this source can be contacted again after failures.
+     * @return The time, in milliseconds since the epoch, or 0 if the source isn't being backed off from.
+     */
+    public synchronized long getRetryTime() {
+        return this.retryTime;
+    }
+
+    /**
+     * Gets the amount of fetches that reused the last download instead of contacting this source, because the
+     * source was being backed off from or was contacted too recently.
+     * @return The amount of fetches held back
+     */
+    public long getHeldBackCount() {
+        return this.heldBackCount.sum();
+    }
+
+    /**
+     * Gets the amount of successful fetches from this source.
+     * @return The amount of fetches, including fetches where the ban list was unchanged
+     */
+    public long getFetchCount() {
+        return this.fetchCount.sum();
+    }
+
+    /**
+     * Gets the amount of failed fetches from this source.
+     * @return The amount of failures
+     */
+    public long getFailureCount() {
+        return this.failureCount.sum();
+    }
+
+    /**
+     * Gets the time the last fetch from this source took, whether it succeeded or not.
+     * @param unit The unit of the result
+     * @return The time the fetch took, or -1 if the source hasn't been fetched yet.
+     */
+    public long getLastFetchDuration(@NotNull TimeUnit unit) {
+        long duration = this.lastFetchDuration;
+
+        return duration != -1L ? unit.convert(duration, TimeUnit.NANOSECONDS) : -1L;
+    }
+
+    /**
+     * Gets the status of the last fetch from this source, like "HTTP 200", "HTTP 304" or the reason it failed.
+     * @return The status, or null if the source hasn't been fetched yet.
+     */
+    public @Nullable String getLastStatus() {
+        return this.lastStatus;
+    }
+
+    /**
+     * Gets the time of the last successful fetch from this source.
+     * @return The time, in milliseconds since the epoch, or -1 if the source hasn't been fetched successfully yet.
+     */
+    public long getLastSuccessTime() {
+        return this.lastSuccessTime;
+    }
+
+    /**
+     * Gets the time each fetch from this source took, whether it succeeded or not.
+     * @return The histogram of fetch times
+     */
+    public @NotNull LatencyHistogram getFetchTimes() {
+        return this.fetchTimes;
+    }
+
+    /**
+     * Gets the amount of bytes downloaded or read from this source.
+     * @return The amount of bytes, not including responses where the ban list was unchanged
+     */
+    public long getBytesDownloaded() {
+        return this.bytesDownloaded.sum();
+    }
+
+    /**
+     * Gets the amount of bytes of ban list data downloaded or read from this source, after decompressing.
+     * @return The amount of bytes, not including responses where the ban list was unchanged
+     */
+    public long getBytesDecoded() {
+        return this.bytesDecoded.sum();
+    }
+
+    /**
+     * Gets the amount of responses from this source with each HTTP response code.
+     * @return An un-modifiable {@link Map map} of each HTTP response code to its amount of responses, in ascending order
+     */
+    public @NotNull Map<@NotNull Integer, @NotNull Long> getHttpStatusCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+
+        for (Map.Entry<Integer, LongAdder> entry : this.httpStatusCounts.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().sum());
+        }
+
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /**
+     * Gets the time each full parse of this source's ban list took.
+     * @return The histogram of parse times
+     */
+    public @NotNull LatencyHistogram getParseTimes() {
+        return this.parseTimes;
+    }
+
+    /**
+     * Gets the amount of rows read by full reads of this source's ban list.
+     * @return The amount of rows, including malformed rows
+     */
+    public long getRowsRead() {
+        return this.rowsRead.sum();
+    }
+
+    /**
+     * Gets the amount of malformed rows skipped by full reads of this source's ban list.
+     * @return The amount of malformed rows
+     */
+    public long getRowsRejected() {
+        return this.rowsRejected.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "BanListSource{" +
+                "name='" + this.name + '\'' +
+                ", url=" + this.url +
+                ", refreshInterval=" + this.refreshInterval +
+                ", precedence=" + this.precedence +
+                '}';
+    }
+
+}
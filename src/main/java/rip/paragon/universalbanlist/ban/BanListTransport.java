@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.URL;
+
+/**
+ * @since October 17, 2026
+ * Fetches the data of ban lists for the {@link BanListService ban list service}.
+ *
+ * Implementations must read every response to the end and release its connection before returning, whether the
+ * request succeeded or not, so connections can't leak when a lot of players join at once.
+ */
+public interface BanListTransport {
+
+    /**
+     * Fetches a ban list's data.
+     * @param url The URL of the ban list
+     * @param entityTag The ETag of the last fetched ban list, to only receive the ban list if it has changed. May be null.
+     * @param lastModified The Last-Modified time of the last fetched ban list, to only receive the ban list if it has changed. May be null.
+     * @param connectTimeout The maximum time to wait for a connection, in milliseconds
+     * @param readTimeout The maximum time to wait for data, in milliseconds
+     * @return The response
+     * @throws IOException If the ban list couldn't be fetched. Responses with any HTTP response code are returned instead.
+     */
+    @NotNull Response fetch(
+            @NotNull URL url,
+            @Nullable String entityTag,
+            @Nullable String lastModified,
+            int connectTimeout,
+            int readTimeout
+    ) throws IOException;
+
+    /**
+     * Represents a response containing a ban list's data.
+     */
+    final class Response {
+
+        /* The HTTP response code, or -1 if the URL isn't a HTTP(S) URL */
+        public final int code;
+
+        /* The ban list's data, decompressed. Will be empty unless the ban list was sent. */
+        public final @NotNull byte[] body;
+
+        /* The amount of bytes received, before decompressing */
+        public final long bytesReceived;
+
+        /* Whether the ban list was sent compressed */
+        public final boolean compressed;
+
+        /* The response's ETag, Last-Modified and Retry-After headers. Will be null if they weren't sent. */
+        public final @Nullable String entityTag;
+        public final @Nullable String lastModified;
+        public final @Nullable String retryAfter;
+
+        public Response(
+                int code,
+                @NotNull byte[] body,
+                long bytesReceived,
+                boolean compressed,
+                @Nullable String entityTag,
+                @Nullable String lastModified,
+                @Nullable String retryAfter
+        ) {
+            this.code = code;
+            this.body = body;
+            this.bytesReceived = bytesReceived;
+            this.compressed = compressed;
+            this.entityTag = entityTag;
+            this.lastModified = lastModified;
+            this.retryAfter = retryAfter;
+        }
+
+    }
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * @since October 17, 2026
+ * A query for {@link BanEntry bans} matching every specified condition.
+ *
+ * When run against a {@link BanListSnapshot snapshot}, the most selective condition is looked up in the snapshot's indexes,
+ * and only the bans found there are checked against the other conditions. Conditions without an index, like
+ * {@link Builder#matching(Predicate) predicates}, are checked against every ban if they're the only condition.
+ */
+public final class BanQuery implements Predicate<BanEntry> {
+
+    /* The player UUID to match */
+    final @Nullable UUID player;
+
+    /* The case-folded username to match */
+    final @Nullable String username;
+
+    /* The case-folded username prefix to match */
+    final @Nullable String usernamePrefix;
+
+    /* The case URL to match */
+    final @Nullable String caseURL;
+
+    /* The range of ban times to match, in milliseconds since the epoch. The start is inclusive and the end is exclusive. */
+    final long bannedFrom;
+    final long bannedUntil;
+
+    /* If only active bans should match */
+    final boolean activeOnly;
+
+    /* Any other condition to match */
+    final @Nullable Predicate<@NotNull BanEntry> predicate;
+
+    private BanQuery(@NotNull Builder builder) {
+        this.player = builder.player;
+        this.username = builder.username;
+        this.usernamePrefix = builder.usernamePrefix;
+        this.caseURL = builder.caseURL;
+        this.bannedFrom = builder.bannedFrom;
+        this.bannedUntil = builder.bannedUntil;
+        this.activeOnly = builder.activeOnly;
+        this.predicate = builder.predicate;
+    }
+
+    /**
+     * Creates a builder for a query. A query without any conditions matches every ban.
+     * @return The builder
+     */
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Checks if a ban matches every condition of this query.
+     * @param entry The ban
+     * @return If the ban matches
+     */
+    @Override
+    public boolean test(@NotNull BanEntry entry) {
+        return (this.player == null || entry.isPlayer(this.player)) &&
+                (this.username == null || entry.username.equalsIgnoreCase(this.username)) &&
+                (this.usernamePrefix == null || entry.username.regionMatches(true, 0, this.usernamePrefix, 0, this.usernamePrefix.length())) &&
+                (this.caseURL == null || entry.caseURL.equals(this.caseURL)) &&
+                entry.getBanTimeMillis() >= this.bannedFrom &&
+                entry.getBanTimeMillis() < this.bannedUntil &&
+                (!this.activeOnly || entry.isActive()) &&
+                (this.predicate == null || this.predicate.test(entry));
+    }
+
+    /**
+     * Gets if this query has a range of ban times.
+     * @return If the ban time is part of the query
+     */
+    boolean hasBanTimeRange() {
+        return this.bannedFrom != Long.MIN_VALUE || this.bannedUntil != Long.MAX_VALUE;
+    }
+
+    /**
+     * Case-folds a username so it can be compared case-insensitively.
+     * @param username The username
+     * @return The case-folded username
+     */
+    static @NotNull String foldCase(@NotNull String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Builds a {@link BanQuery query}. Every condition is optional.
+     */
+    public static final class Builder {
+
+        private @Nullable UUID player;
+        private @Nullable String username;
+        private @Nullable String usernamePrefix;
+        private @Nullable String caseURL;
+        private long bannedFrom = Long.MIN_VALUE;
+        private long bannedUntil = Long.MAX_VALUE;
+        private boolean activeOnly;
+        private @Nullable Predicate<@NotNull BanEntry> predicate;
+
+        private Builder() {}
+
+        /**
+         * Only matches bans related to the specified player.
+         * @param player The player's UUID
+         * @return This builder
+         */
+        public @NotNull Builder player(@NotNull UUID player) {
+            this.player = player;
+
+            return this;
+        }
+
+        /**
+         * Only matches bans where the player had the specified username when they were banned, ignoring case.
+         * @param username The username
+         * @return This builder
+         */
+        public @NotNull Builder username(@NotNull String username) {
+            this.username = foldCase(username);
+
+            return this;
+        }
+
+        /**
+         * Only matches bans where the player's username when they were banned starts with the specified prefix, ignoring case.
+         * @param prefix The start of the username
+         * @return This builder
+         */
+        public @NotNull Builder usernamePrefix(@NotNull String prefix) {
+            this.usernamePrefix = foldCase(prefix);
+
+            return this;
+        }
+
+        /**
+         * Only matches bans with the specified case URL.
+         * @param caseURL The URL to the courtroom case
+         * @return This builder
+         */
+        public @NotNull Builder caseURL(@NotNull String caseURL) {
+            this.caseURL = caseURL;
+
+            return this;
+        }
+
+        /**
+         * Only matches bans made within the specified range of time.
+         * @param from The start of the range (inclusive), in milliseconds since the epoch
+         * @param until The end of the range (exclusive), in milliseconds since the epoch
+         * @return This builder
+         */
+        public @NotNull Builder bannedBetween(long from, long until) {
+            this.bannedFrom = from;
+            this.bannedUntil = until;
+
+            return this;
+        }
+
+        /**
+         * Only matches active bans.
+         * @return This builder
+         */
+        public @NotNull Builder activeOnly() {
+            this.activeOnly = true;
+
+            return this;
+        }
+
+        /**
+         * Only matches bans matching the specified condition. Can be called more than once to add more conditions.
+         * @param predicate The condition
+         * @return This builder
+         */
+        public @NotNull Builder matching(@NotNull Predicate<@NotNull BanEntry> predicate) {
+            this.predicate = this.predicate != null ? this.predicate.and(predicate) : predicate;
+
+            return this;
+        }
+
+        /**
+         * Builds the query.
+         * @return The query
+         */
+        public @NotNull BanQuery build() {
+            return new BanQuery(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @since October 17, 2026
+ * Represents the reason a CSV record couldn't be decoded into a {@link BanEntry ban entry}.
+ */
+public enum DecodeFailure {
+
+    MISSING_COLUMN("Missing column"),
+    INVALID_UUID("Invalid UUID"),
+    INVALID_BAN_DATE("Invalid ban date"),
+    INVALID_BAN_LENGTH("Invalid ban length"),
+    INVALID_EXPIRY_DATE("Invalid expiry date");
+
+    /* A human-readable description of the failure */
+    public final @NotNull String description;
+
+    DecodeFailure(@NotNull String description) {
+        this.description = description;
+    }
+
+}
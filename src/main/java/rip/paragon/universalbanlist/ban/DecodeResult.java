@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * @since October 17, 2026
+ * Represents the result of decoding a CSV record into a {@link BanEntry ban entry}.
+ * Either the ban entry or the reason it couldn't be decoded will be present, but never both.
+ */
+public final class DecodeResult {
+
+    /* The decoded ban entry. Will be null if the record couldn't be decoded. */
+    public final @Nullable BanEntry entry;
+
+    /* The reason the record couldn't be decoded. Will be null if it was decoded successfully. */
+    public final @Nullable DecodeFailure failure;
+
+    /* The number of the record in the CSV data, starting at 1 for the first record after the header */
+    public final long rowNumber;
+
+    private DecodeResult(@Nullable BanEntry entry, @Nullable DecodeFailure failure, long rowNumber) {
+        this.entry = entry;
+        this.failure = failure;
+        this.rowNumber = rowNumber;
+    }
+
+    /**
+     * Gets if the record was decoded successfully.
+     * @return If the {@link DecodeResult#entry entry} is present
+     */
+    public boolean isSuccess() {
+        return this.entry != null;
+    }
+
+    @Override
+    public String toString() {
+        return "DecodeResult{" +
+                "entry=" + this.entry +
+                ", failure=" + this.failure +
+                ", rowNumber=" + this.rowNumber +
+                '}';
+    }
+
+    /**
+     * Creates a successful result.
+     * @param entry The decoded ban entry
+     * @param rowNumber The number of the record
+     * @return The result
+     */
+    public static @NotNull DecodeResult success(@NotNull BanEntry entry, long rowNumber) {
+        return new DecodeResult(entry, null, rowNumber);
+    }
+
+    /**
+     * Creates a failed result.
+     * @param failure The reason the record couldn't be decoded
+     * @param rowNumber The number of the record
+     * @return The result
+     */
+    public static @NotNull DecodeResult failure(@NotNull DecodeFailure failure, long rowNumber) {
+        return new DecodeResult(null, failure, rowNumber);
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @since October 17, 2026
+ * An index of {@link BanEntry bans} ordered by when they expire.
+ *
+ * Temporary bans are sorted by their expiry time, so the active ones are always at the end. Finding them is a binary search
+ * for the current time instead of checking every ban, and the index doesn't need to be updated as bans expire.
+ */
+public final class ExpiryIndex {
+
+    /* Every temporary ban, sorted by expiry time */
+    private final @NotNull BanEntry[] temporaryBans;
+
+    /* The expiry time of each temporary ban, in milliseconds since the epoch */
+    private final long[] expireTimes;
+
+    /* Every permanent ban */
+    private final @NotNull List<@NotNull BanEntry> permanentBans;
+
+    public ExpiryIndex(@NotNull Collection<@NotNull BanEntry> entries) {
+        List<BanEntry> temporaryBans = new ArrayList<>(entries.size());
+        List<BanEntry> permanentBans = new ArrayList<>();
+
+        for (BanEntry entry : entries) {
+            (entry.isPermanent() ? permanentBans : temporaryBans).add(entry);
+        }
+
+        // The sort is stable, so bans expiring at the same time stay in the same order as the source
+        this.temporaryBans = temporaryBans.toArray(new BanEntry[0]);
+        Arrays.sort(this.temporaryBans, Comparator.comparingLong(BanEntry::getExpireTimeMillis));
+
+        this.expireTimes = new long[this.temporaryBans.length];
+
+        for (int i = 0; i < this.temporaryBans.length; i++) {
+            this.expireTimes[i] = this.temporaryBans[i].getExpireTimeMillis();
+        }
+
+        this.permanentBans = Collections.unmodifiableList(permanentBans);
+    }
+
+    /**
+     * Finds the first temporary ban that's still active at the specified time.
+     * @param time The time, in milliseconds since the epoch
+     * @return The index of the first temporary ban expiring after the specified time,
+     *         or the amount of temporary bans if they've all expired.
+     */
+    private int indexAfter(long time) {
+        int low = 0;
+        int high = this.expireTimes.length;
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (this.expireTimes[middle] <= time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Gets the amount of active bans.
+     * @return The amount of permanent bans and temporary bans that haven't expired yet
+     */
+    public int getActiveCount() {
+        return this.permanentBans.size() + this.temporaryBans.length - this.indexAfter(System.currentTimeMillis());
+    }
+
+    /**
+     * Gets every active ban.
+     * @return An un-modifiable {@link List list} of the permanent bans, followed by the temporary bans that haven't expired yet
+     *         in the order they expire.
+     */
+    public @NotNull List<@NotNull BanEntry> getActiveBans() {
+        int start = this.indexAfter(System.currentTimeMillis());
+        List<BanEntry> activeBans = new ArrayList<>(this.permanentBans.size() + this.temporaryBans.length - start);
+
+        activeBans.addAll(this.permanentBans);
+        activeBans.addAll(Arrays.asList(this.temporaryBans).subList(start, this.temporaryBans.length));
+
+        return Collections.unmodifiableList(activeBans);
+    }
+
+    /**
+     * Gets the active bans that expire within the specified amount of time.
+     * @param duration The amount of time
+     * @param unit The unit of the amount of time
+     * @return An un-modifiable {@link List list} of the temporary bans that haven't expired yet, but will within the
+     *         amount of time, in the order they expire.
+     */
+    public @NotNull List<@NotNull BanEntry> getBansExpiringWithin(long duration, @NotNull TimeUnit unit) {
+        long now = System.currentTimeMillis();
+        long end = now + unit.toMillis(duration);
+
+        // Don't overflow if the amount of time is huge
+        if (end < now) {
+            end = Long.MAX_VALUE;
+        }
+
+        int start = this.indexAfter(now);
+
+        return Collections.unmodifiableList(Arrays.asList(this.temporaryBans).subList(start, Math.max(start, this.indexAfter(end))));
+    }
+
+    /**
+     * Gets every permanent ban.
+     * @return An un-modifiable {@link List list} of the permanent bans
+     */
+    public @NotNull List<@NotNull BanEntry> getPermanentBans() {
+        return this.permanentBans;
+    }
+
+}
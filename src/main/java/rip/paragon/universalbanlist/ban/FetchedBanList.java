@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import rip.paragon.universalbanlist.util.UUIDBloomFilter;
+
+import java.util.List;
+
+/**
+ * @since October 17, 2026
+ * Represents a parsed copy of the ban list, along with the validators needed to check if the source has changed since.
+ */
+final class FetchedBanList {
+
+    /* The URL the ban list was fetched from */
+    final @NotNull String url;
+
+    /* Every ban entry that was parsed from the source */
+    final @NotNull List<@NotNull BanEntry> entries;
+
+    /* The UUIDs of every player with bans, so players without bans can be skipped without scanning the entries */
+    final @NotNull UUIDBloomFilter playerFilter;
+
+    /* The report of the malformed records in the source */
+    final @NotNull MalformedRowReport report;
+
+    /* The ETag header returned by the server, if any */
+    final @Nullable String entityTag;
+
+    /* The Last-Modified header returned by the server, if any */
+    final @Nullable String lastModified;
+
+    /* The last modification time of the source file, or -1 if the source isn't a file */
+    final long fileModifiedTime;
+
+    /* The size of the source file, or -1 if the source isn't a file */
+    final long fileSize;
+
+    FetchedBanList(
+            @NotNull String url,
+            @NotNull List<@NotNull BanEntry> entries,
+            @NotNull MalformedRowReport report,
+            @Nullable String entityTag,
+            @Nullable String lastModified,
+            long fileModifiedTime,
+            long fileSize
+    ) {
+        this.url = url;
+        this.entries = entries;
+        this.playerFilter = BanListSnapshot.createPlayerFilter(entries);
+        this.report = report;
+        this.entityTag = entityTag;
+        this.lastModified = lastModified;
+        this.fileModifiedTime = fileModifiedTime;
+        this.fileSize = fileSize;
+    }
+
+    /**
+     * Gets if the source file is unchanged since this ban list was fetched.
+     * @param url The URL of the source file
+     * @param fileModifiedTime The current last modification time of the source file
+     * @param fileSize The current size of the source file
+     * @return If the source file is unchanged
+     */
+    boolean isFileUnchanged(@NotNull String url, long fileModifiedTime, long fileSize) {
+        return this.url.equals(url) && this.fileModifiedTime == fileModifiedTime && this.fileSize == fileSize;
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @since October 17, 2026
+ * Watches a file for changes using a {@link WatchService}, and runs a task each time it changes.
+ * Changes are debounced, so editors that write a file in several steps only cause the task to run once.
+ */
+final class FileWatcher implements Closeable {
+
+    /* How long the file has to stay unchanged before the task runs, in milliseconds */
+    private static final long DEBOUNCE_MILLIS = 250L;
+
+    /* The environment providing the logger */
+    private final @NotNull BanListEnvironment environment;
+
+    /* The file being watched */
+    private final @NotNull Path file;
+
+    /* The task to run when the file changes */
+    private final @NotNull Runnable task;
+
+    /* The watch service watching the file's directory */
+    private final @NotNull WatchService watchService;
+
+    /* The thread waiting for changes */
+    private final @NotNull Thread thread;
+
+    /**
+     * Starts watching a file. The task runs once immediately, then each time the file changes.
+     * @param environment The environment providing the logger
+     * @param file The file to watch
+     * @param task The task to run on the watcher's thread
+     * @throws IOException If the file's directory couldn't be watched.
+     */
+    FileWatcher(@NotNull BanListEnvironment environment, @NotNull Path file, @NotNull Runnable task) throws IOException {
+        this.environment = environment;
+        this.file = file.toAbsolutePath();
+        this.task = task;
+        this.watchService = this.file.getFileSystem().newWatchService();
+
+        // Watch the directory instead of the file, so files replaced by renaming a temporary file are noticed too
+        this.file.getParent().register(
+                this.watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE
+        );
+
+        this.thread = new Thread(this::run, "UniversalBanList File Watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    private void run() {
+        this.task.run();
+
+        try {
+            while (true) {
+                if (!this.pollChanges(this.watchService.take())) {
+                    continue;
+                }
+
+                // Wait until the file stops changing
+                WatchKey key;
+
+                while ((key = this.watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    this.pollChanges(key);
+                }
+
+                this.task.run();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // The watcher was closed
+        }
+    }
+
+    /**
+     * Removes the pending events from a {@link WatchKey watch key}.
+     * @param key The watch key
+     * @return If any of the events are related to the watched file
+     */
+    private boolean pollChanges(@NotNull WatchKey key) {
+        boolean changed = false;
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            // Events may have been lost, so assume the file changed
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || this.file.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+
+        if (!key.reset()) {
+            this.environment.getLogger().warning(String.format(
+                    "The directory containing %s is no longer accessible, changes to the ban list won't be noticed",
+                    this.file
+            ));
+        }
+
+        return changed;
+    }
+
+    /**
+     * Stops watching the file.
+     * @throws IOException If the watch service couldn't be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        this.thread.interrupt();
+        this.watchService.close();
+    }
+
+}
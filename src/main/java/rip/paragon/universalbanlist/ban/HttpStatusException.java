@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import java.io.IOException;
+
+/**
+ * @since October 17, 2026
+ * Thrown when a ban list's server responds with a HTTP response code other than OK, like when it's rate limiting requests.
+ */
+final class HttpStatusException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    /* The HTTP response code */
+    final int code;
+
+    /* The time the server asked to wait before the next request, in milliseconds, or -1 if it didn't ask */
+    final long retryAfter;
+
+    HttpStatusException(int code, long retryAfter) {
+        super("Non-OK HTTP response code returned " + code);
+        this.code = code;
+        this.retryAfter = retryAfter;
+    }
+
+}
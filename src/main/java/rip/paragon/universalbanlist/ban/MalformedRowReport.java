@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.apache.commons.csv.CSVRecord;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @since October 17, 2026
+ * Represents a summary of the records that couldn't be decoded while reading the ban list.
+ * Counts the failures of each kind and keeps a few of the malformed records as samples.
+ */
+public final class MalformedRowReport {
+
+    /* The maximum amount of samples kept */
+    public static final int MAX_SAMPLES = 10;
+
+    /* The amount of failures of each kind, indexed by ordinal */
+    private final long[] failureCounts = new long[DecodeFailure.values().length];
+
+    /* Some of the malformed records */
+    private final List<@NotNull Sample> samples = new ArrayList<>();
+
+    /* The amount of records that were decoded, successfully or not */
+    private long rowsRead;
+
+    /**
+     * Adds a decoded record to this report.
+     * @param result The result of decoding the record
+     * @param record The record
+     */
+    void add(@NotNull DecodeResult result, @NotNull CSVRecord record) {
+        this.rowsRead++;
+
+        if (result.failure == null) {
+            return;
+        }
+
+        this.failureCounts[result.failure.ordinal()]++;
+
+        if (this.samples.size() < MAX_SAMPLES) {
+            List<String> values = new ArrayList<>(record.size());
+            record.forEach(values::add);
+
+            this.samples.add(new Sample(result.rowNumber, result.failure, String.join(",", values)));
+        }
+    }
+
+    /**
+     * Adds every record in another report to this report, as if they were read after the records in this report.
+     * @param other The other report
+     * @param rowOffset The amount to add to the row numbers of the other report's samples
+     */
+    void addAll(@NotNull MalformedRowReport other, long rowOffset) {
+        this.rowsRead += other.rowsRead;
+
+        for (int i = 0; i < this.failureCounts.length; i++) {
+            this.failureCounts[i] += other.failureCounts[i];
+        }
+
+        for (Sample sample : other.samples) {
+            if (this.samples.size() >= MAX_SAMPLES) {
+                break;
+            }
+
+            this.samples.add(new Sample(sample.rowNumber + rowOffset, sample.failure, sample.row));
+        }
+    }
+
+    /**
+     * Gets the amount of records that were decoded, successfully or not.
+     * @return The amount of records
+     */
+    public long getRowsRead() {
+        return this.rowsRead;
+    }
+
+    /**
+     * Gets the amount of records that couldn't be decoded for the specified reason.
+     * @param failure The reason
+     * @return The amount of records
+     */
+    public long getFailureCount(@NotNull DecodeFailure failure) {
+        return this.failureCounts[failure.ordinal()];
+    }
+
+    /**
+     * Gets the amount of records that couldn't be decoded.
+     * @return The amount of malformed records
+     */
+    public long getTotalFailures() {
+        return Arrays.stream(this.failureCounts).sum();
+    }
+
+    /**
+     * Gets some of the malformed records, in the order they were read.
+     * @return An un-modifiable {@link List list} of at most {@link MalformedRowReport#MAX_SAMPLES} samples
+     */
+    public @NotNull List<@NotNull Sample> getSamples() {
+        return Collections.unmodifiableList(this.samples);
+    }
+
+    /**
+     * Checks if this report has the same counts as another report.
+     * @param other The other report
+     * @return If both reports read the same amount of records and had the same failures
+     */
+    public boolean hasSameCounts(@NotNull MalformedRowReport other) {
+        return this.rowsRead == other.rowsRead && Arrays.equals(this.failureCounts, other.failureCounts);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(String.format("%d of %d rows are malformed", this.getTotalFailures(), this.rowsRead));
+
+        for (DecodeFailure failure : DecodeFailure.values()) {
+            long count = this.getFailureCount(failure);
+
+            if (count > 0) {
+                builder.append(String.format(", %s: %d", failure.description, count));
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Represents a malformed record.
+     */
+    public static final class Sample {
+
+        /* The number of the record in the CSV data */
+        public final long rowNumber;
+
+        /* The reason the record couldn't be decoded */
+        public final @NotNull DecodeFailure failure;
+
+        /* The values of the record, separated by commas */
+        public final @NotNull String row;
+
+        Sample(long rowNumber, @NotNull DecodeFailure failure, @NotNull String row) {
+            this.rowNumber = rowNumber;
+            this.failure = failure;
+            this.row = row;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Row %d (%s): %s", this.rowNumber, this.failure.description, this.row);
+        }
+
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.jetbrains.annotations.NotNull;
+import rip.paragon.universalbanlist.util.Backoff;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * @since October 17, 2026
+ * Refreshes a source's part of the ban list snapshot in the background.
+ *
+ * Each refresh is scheduled after the previous one finishes, at a random time around the source's refresh interval,
+ * so servers that were started together don't all fetch the ban list at the same moment. After a failure, the next
+ * refresh waits until the source is no longer being backed off from. The current bans are kept until then.
+ */
+public final class RefreshScheduler {
+
+    /* The environment providing the scheduler, logger and refresh jitter */
+    private final @NotNull BanListEnvironment environment;
+
+    /* The source being refreshed */
+    private final @NotNull BanListSource source;
+
+    /* Whether the scheduler has been stopped. Guarded by this scheduler. */
+    private boolean stopped;
+
+    public RefreshScheduler(@NotNull BanListEnvironment environment, @NotNull BanListSource source) {
+        this.environment = environment;
+        this.source = source;
+    }
+
+    /**
+     * Schedules the first refresh.
+     */
+    public synchronized void start() {
+        this.schedule(this.getNextDelay());
+    }
+
+    /**
+     * Stops refreshing. Refreshes in progress will finish, but won't schedule another refresh.
+     */
+    public synchronized void stop() {
+        this.stopped = true;
+    }
+
+    private synchronized void schedule(long delay) {
+        if (this.stopped) {
+            return;
+        }
+
+        this.environment.runTaskLaterAsynchronously(this::refresh, delay);
+    }
+
+    private void refresh() {
+        synchronized (this) {
+            if (this.stopped) {
+                return;
+            }
+        }
+
+        try {
+            BanListService.INSTANCE.refreshSnapshot(this.source).whenComplete((snapshot, throwable) -> {
+                if (throwable != null) {
+                    this.logFailure(throwable);
+                }
+
+                this.schedule(this.getNextDelay());
+            });
+        } catch (RuntimeException e) {
+            // The refresh couldn't be started, like when too many lookups are waiting for a thread
+            this.logFailure(e);
+            this.schedule(this.getNextDelay());
+        }
+    }
+
+    private void logFailure(@NotNull Throwable throwable) {
+        this.environment.getLogger().log(
+                Level.SEVERE,
+                String.format("Couldn't refresh the ban list from %s, keeping its current bans", this.source.name),
+                throwable
+        );
+    }
+
+    /**
+     * Gets the delay until the next refresh.
+     * @return The delay, in milliseconds
+     */
+    private long getNextDelay() {
+        long retryTime = this.source.getRetryTime();
+
+        // Retry once the source is no longer being backed off from, whether that's sooner or later than the refresh interval
+        if (retryTime != 0L) {
+            return Math.max(1L, retryTime - System.currentTimeMillis());
+        }
+
+        return Backoff.getRefreshDelay(
+                TimeUnit.SECONDS.toMillis(this.source.refreshInterval),
+                this.environment.getRefreshJitter(),
+                ThreadLocalRandom.current().nextDouble()
+        );
+    }
+
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * @since October 17, 2026
+ * Reads and writes ban lists in a compact binary format, so the last fetched ban list can be used
+ * before the ban list is fetched at startup or while the ban list's source is unreachable.
+ *
+ * The format is as follows, with every number in big-endian order:
+ * - The magic number "UBLS" and the format version (ints)
+ * - The time the ban list was fetched (long)
+ * - The amount of strings and entries (ints)
+ * - The string table: the length of each string in bytes (int), followed by its UTF-8 bytes
+ * - The entries, sorted by UUID: the UUID (2 longs), the ban time, packed ban length and expiry time (longs),
+ *   followed by the indices of the username, reason, case URL and source in the string table (ints)
+ * - A CRC32 checksum of everything before it (int)
+ */
+final class SnapshotFile {
+
+    private SnapshotFile() {}
+
+    /* The magic number at the start of the file, "UBLS" */
+    private static final int MAGIC = 0x55424C53;
+
+    /* The version of the format */
+    private static final int VERSION = 2;
+
+    /* The size of the magic number, version, creation time and counts */
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 4 + 4;
+
+    /* The size of each entry */
+    private static final int ENTRY_SIZE = 8 * 5 + 4 * 4;
+
+    /* The size of the checksum */
+    private static final int CHECKSUM_SIZE = 4;
+
+    /**
+     * Writes a ban list to a file. The file is replaced atomically, so it's never left half-written,
+     * and a file that's still mapped by {@link SnapshotFile#read(Path)} keeps its old contents.
+     * @param path The file
+     * @param entries The ban entries
+     * @param creationTime The time the ban list was fetched, in milliseconds since the epoch
+     * @throws IOException If the file couldn't be written.
+     */
+    static void write(@NotNull Path path, @NotNull List<@NotNull BanEntry> entries, long creationTime) throws IOException {
+        // Sort by UUID. The sort is stable, so each player's bans stay in the same order.
+        List<BanEntry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparingLong(BanEntry::getPlayerMostSigBits).thenComparingLong(BanEntry::getPlayerLeastSigBits));
+
+        // Build the string table, so repeated reasons, case URLs and sources are only stored once
+        Map<String, Integer> stringIndices = new HashMap<>();
+        List<byte[]> strings = new ArrayList<>();
+        int stringsSize = 0;
+
+        for (BanEntry entry : sorted) {
+            for (String string : new String[] { entry.username, entry.reason, entry.caseURL, entry.source }) {
+                if (!stringIndices.containsKey(string)) {
+                    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+
+                    stringIndices.put(string, strings.size());
+                    strings.add(bytes);
+                    stringsSize += 4 + bytes.length;
+                }
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + stringsSize + sorted.size() * ENTRY_SIZE + CHECKSUM_SIZE);
+
+        buffer.putInt(MAGIC);
+        buffer.putInt(VERSION);
+        buffer.putLong(creationTime);
+        buffer.putInt(strings.size());
+        buffer.putInt(sorted.size());
+
+        for (byte[] bytes : strings) {
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+
+        for (BanEntry entry : sorted) {
+            buffer.putLong(entry.getPlayerMostSigBits());
+            buffer.putLong(entry.getPlayerLeastSigBits());
+            buffer.putLong(entry.getBanTimeMillis());
+            buffer.putLong(entry.getPackedBanLength());
+            buffer.putLong(entry.getExpireTimeMillis());
+            buffer.putInt(stringIndices.get(entry.username));
+            buffer.putInt(stringIndices.get(entry.reason));
+            buffer.putInt(stringIndices.get(entry.caseURL));
+            buffer.putInt(stringIndices.get(entry.source));
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) checksum.getValue());
+
+        // Write to a temporary file first, then replace the old file with it. The new file is a new inode,
+        // so the old file is never written to while it may be mapped.
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(temporary, buffer.array());
+
+        try {
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads a ban list from a file using memory-mapped I/O.
+     * @param path The file
+     * @return The ban list, as a {@link BanListSnapshot snapshot} created at the time the ban list was fetched.
+     *         The entries are sorted by UUID.
+     * @throws NoSuchFileException If the file doesn't exist.
+     * @throws IOException If the file couldn't be read, or it's truncated, corrupted or from an unknown version.
+     */
+    static @NotNull BanListSnapshot read(@NotNull Path path) throws IOException {
+        MappedByteBuffer buffer;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE + CHECKSUM_SIZE || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot file has an invalid size " + channel.size());
+            }
+
+            // The file is only ever replaced by renaming a new file over it, never written in place, so the mapping can't change
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+        }
+
+        // Check the checksum before reading anything else.
+        // Buffer setters are called through Buffer, since Java 9+ compilers bind them to ByteBuffer overloads that don't exist on Java 8.
+        int checksumPosition = buffer.limit() - CHECKSUM_SIZE;
+        CRC32 checksum = new CRC32();
+        ByteBuffer data = buffer.duplicate();
+        ((Buffer) data).limit(checksumPosition);
+        checksum.update(data);
+
+        if ((int) checksum.getValue() != buffer.getInt(checksumPosition)) {
+            throw new IOException("Snapshot file is corrupted or truncated");
+        }
+
+        ((Buffer) buffer).limit(checksumPosition);
+
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a snapshot file");
+            }
+
+            int version = buffer.getInt();
+
+            if (version != VERSION) {
+                throw new IOException("Unknown snapshot file version " + version);
+            }
+
+            long creationTime = buffer.getLong();
+            int stringCount = buffer.getInt();
+            int entryCount = buffer.getInt();
+
+            // Each string takes at least 4 bytes, so anything larger than the file is invalid
+            if (stringCount < 0 || entryCount < 0 || stringCount > buffer.remaining() / 4 || entryCount > buffer.remaining() / ENTRY_SIZE) {
+                throw new IOException("Snapshot file has invalid counts");
+            }
+
+            String[] strings = new String[stringCount];
+
+            for (int i = 0; i < stringCount; i++) {
+                int length = buffer.getInt();
+
+                if (length < 0 || length > buffer.remaining()) {
+                    throw new IOException("Snapshot file has an invalid string length");
+                }
+
+                byte[] bytes = new byte[length];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            List<BanEntry> entries = new ArrayList<>(entryCount);
+
+            for (int i = 0; i < entryCount; i++) {
+                long playerMostSigBits = buffer.getLong();
+                long playerLeastSigBits = buffer.getLong();
+                long banTime = buffer.getLong();
+                long banLength = buffer.getLong();
+                long expireTime = buffer.getLong();
+                String username = getString(strings, buffer.getInt());
+                String reason = getString(strings, buffer.getInt());
+                String caseURL = getString(strings, buffer.getInt());
+                String source = getString(strings, buffer.getInt());
+
+                entries.add(new BanEntry(username, playerMostSigBits, playerLeastSigBits, reason, banTime, banLength, expireTime, caseURL, source));
+            }
+
+            if (buffer.hasRemaining()) {
+                throw new IOException("Snapshot file has unexpected data at the end");
+            }
+
+            return new BanListSnapshot(entries, creationTime);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Snapshot file is truncated", e);
+        }
+    }
+
+    private static @NotNull String getString(@NotNull String[] strings, int index) throws IOException {
+        if (index < 0 || index >= strings.length) {
+            throw new IOException("Snapshot file has an invalid string index " + index);
+        }
+
+        return strings[index];
+    }
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * @since October 17, 2026
+ * Fetches ban lists using Java's {@link URLConnection URL connections}, which supports HTTP(S), files and any other
+ * URL Java understands.
+ *
+ * HTTP(S) ban lists are requested compressed and decompressed while they're read. Every response is read to the end
+ * and closed, even when it's an error, so Java keeps the connection alive and reuses it for the next request to the
+ * same server instead of connecting again.
+ */
+public final class URLConnectionTransport implements BanListTransport {
+
+    /* The size of the buffers used to read and decompress ban lists */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /* The largest array allocated before any data arrives, so a wrong Content-Length can't allocate a huge array */
+    private static final int MAX_INITIAL_SIZE = 1024 * 1024;
+
+    /* The largest ban list that can be read */
+    private static final int MAX_BODY_SIZE = Integer.MAX_VALUE - 8;
+
+    @Override
+    public @NotNull Response fetch(
+            @NotNull URL url,
+            @Nullable String entityTag,
+            @Nullable String lastModified,
+            int connectTimeout,
+            int readTimeout
+    ) throws IOException {
+        URLConnection connection = url.openConnection();
+        connection.setConnectTimeout(connectTimeout);
+        connection.setReadTimeout(readTimeout);
+        connection.setUseCaches(false);
+
+        if (!(connection instanceof HttpURLConnection)) {
+            try (CountingInputStream input = new CountingInputStream(connection.getInputStream())) {
+                byte[] body = readFully(input, connection.getContentLengthLong());
+
+                return new Response(-1, body, input.count, false, null, null, null);
+            }
+        }
+
+        HttpURLConnection httpConn = (HttpURLConnection) connection;
+        httpConn.setRequestProperty("Accept-Encoding", "gzip");
+
+        if (entityTag != null) {
+            httpConn.setRequestProperty("If-None-Match", entityTag);
+        }
+
+        if (lastModified != null) {
+            httpConn.setRequestProperty("If-Modified-Since", lastModified);
+        }
+
+        int code = httpConn.getResponseCode();
+        boolean compressed = "gzip".equalsIgnoreCase(httpConn.getContentEncoding());
+        InputStream stream = code >= 400 ? httpConn.getErrorStream() : httpConn.getInputStream();
+        byte[] body = new byte[0];
+        long bytesReceived = 0L;
+
+        if (stream != null) {
+            try (CountingInputStream input = new CountingInputStream(stream)) {
+                if (code == HttpURLConnection.HTTP_OK) {
+                    body = compressed
+                            ? readFully(new GZIPInputStream(input, BUFFER_SIZE), -1L)
+                            : readFully(input, httpConn.getContentLengthLong());
+                }
+
+                // The rest of the response has to be read for the connection to be reused
+                skipFully(input);
+                bytesReceived = input.count;
+            } catch (IOException e) {
+                // The connection is in an unknown state, so don't let it be reused
+                httpConn.disconnect();
+
+                throw e;
+            }
+        }
+
+        return new Response(
+                code,
+                body,
+                bytesReceived,
+                compressed,
+                httpConn.getHeaderField("ETag"),
+                httpConn.getHeaderField("Last-Modified"),
+                httpConn.getHeaderField("Retry-After")
+        );
+    }
+
+    /**
+     * Reads a stream to the end, straight into the array that's returned when the length is right.
+     * The length is only trusted as far as data arrives: at most {@link #MAX_INITIAL_SIZE} bytes are allocated up front,
+     * and the array only grows towards the length once it's full.
+     * @param input The stream
+     * @param length The length of the data, or -1 if it isn't known
+     * @return The data
+     * @throws IOException If the stream couldn't be read, or the data is too large.
+     */
+    private static @NotNull byte[] readFully(@NotNull InputStream input, long length) throws IOException {
+        byte[] data = new byte[length >= 0L ? (int) Math.min(length, MAX_INITIAL_SIZE) : BUFFER_SIZE];
+        int size = 0;
+
+        while (true) {
+            if (size == data.length) {
+                // Only grow the array if there's more data, so it's never copied when the length is right
+                int next = input.read();
+
+                if (next == -1) {
+                    break;
+                }
+
+                if (data.length == MAX_BODY_SIZE) {
+                    throw new IOException("Ban list is too large");
+                }
+
+                long newSize = Math.max(BUFFER_SIZE, data.length * 2L);
+
+                // Grow to exactly the expected length if it's in reach, so the array doesn't have to be copied again
+                if (length > data.length) {
+                    newSize = Math.min(newSize, length);
+                }
+
+                data = Arrays.copyOf(data, (int) Math.min(MAX_BODY_SIZE, newSize));
+                data[size++] = (byte) next;
+            }
+
+            int read = input.read(data, size, data.length - size);
+
+            if (read == -1) {
+                break;
+            }
+
+            size += read;
+        }
+
+        return size == data.length ? data : Arrays.copyOf(data, size);
+    }
+
+    private static void skipFully(@NotNull InputStream input) throws IOException {
+        byte[] buffer = new byte[8192];
+
+        while (input.read(buffer) != -1) {
+            // Discard it
+        }
+    }
+
+    /**
+     * An {@link InputStream input stream} counting the bytes read from it.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        /* The amount of bytes read */
+        long count;
+
+        CountingInputStream(@NotNull InputStream input) {
+            super(input);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+
+            if (read != -1) {
+                this.count++;
+            }
+
+            return read;
+        }
+
+        @Override
+        public int read(@NotNull byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+
+            if (read > 0) {
+                this.count += read;
+            }
+
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            this.count += skipped;
+
+            return skipped;
+        }
+
+    }
+
+}
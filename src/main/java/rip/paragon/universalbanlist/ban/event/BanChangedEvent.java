@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban.event;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+import rip.paragon.universalbanlist.ban.BanEntry;
+
+/**
+ * @since October 17, 2026
+ * Called when a ban on the ban list is changed, like when it's extended or its reason is changed.
+ * This event is called asynchronously.
+ */
+public class BanChangedEvent extends Event {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    /* The ban before it was changed */
+    private final @NotNull BanEntry previousBan;
+
+    /* The ban after it was changed */
+    private final @NotNull BanEntry ban;
+
+    public BanChangedEvent(@NotNull BanEntry previousBan, @NotNull BanEntry ban) {
+        super(true);
+
+        this.previousBan = previousBan;
+        this.ban = ban;
+    }
+
+    /**
+     * Gets the ban before it was changed.
+     * @return The previous version of the ban
+     */
+    public @NotNull BanEntry getPreviousBan() {
+        return this.previousBan;
+    }
+
+    /**
+     * Gets the ban after it was changed.
+     * @return The current version of the ban
+     */
+    public @NotNull BanEntry getBan() {
+        return this.ban;
+    }
+
+    @Override
+    public @NotNull HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static @NotNull HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban.event;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.NotNull;
+import rip.paragon.universalbanlist.ban.BanListDiff;
+import rip.paragon.universalbanlist.ban.BanListSnapshot;
+
+/**
+ * @since October 17, 2026
+ * Called when the ban list changes, after the events for each added, removed and changed ban are called.
+ * This event is called asynchronously.
+ */
+public class BanListUpdateEvent extends Event {
+
+    private static final HandlerList HANDLERS = new HandlerList();
+
+    /* The new snapshot of the ban list */
+    private final @NotNull BanListSnapshot snapshot;
+
+    /* The differences from the previous snapshot */
+    private final @NotNull BanListDiff diff;
+
+    public BanListUpdateEvent(@NotNull BanListSnapshot snapshot, @NotNull BanListDiff diff) {
+        super(true);
+
+        this.snapshot = snapshot;
+        this.diff = diff;
+    }
+
+    /**
+     * Gets the new snapshot of the ban list.
+     * @return The new snapshot
+     */
+    public @NotNull BanListSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * Gets the differences from the previous snapshot of the ban list.
+     * @return The added, removed and changed bans
+     */
+    public @NotNull BanListDiff getDiff() {
+        return this.diff;
+    }
+
+    @Override
+    public @NotNull HandlerList getHandlers() {
+        return HANDLERS;
+    }
+
+    public static @NotNull HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+
+}
@@ -24,19 +24,26 @@
 
 package rip.paragon.universalbanlist.ban.listener;
 
-import org.bukkit.ChatColor;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
-import rip.paragon.universalbanlist.UniversalBanList;
+import org.jetbrains.annotations.NotNull;
 import rip.paragon.universalbanlist.ban.BanEntry;
+import rip.paragon.universalbanlist.ban.BanListEnvironment;
 import rip.paragon.universalbanlist.ban.BanListService;
-import rip.paragon.universalbanlist.util.TimeFormatters;
+import rip.paragon.universalbanlist.ban.BanListSnapshot;
+import rip.paragon.universalbanlist.util.LatencyHistogram;
+import rip.paragon.universalbanlist.util.LogThrottle;
 
-import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
 
 /**
  * @author Levi Taylor
@@ -45,53 +52,162 @@ import java.util.concurrent.ExecutionException;
  */
 public class BanLoginListener implements Listener {
 
+    /* The amount of ban checks that didn't finish in time */
+    private final LongAdder timeoutCount = new LongAdder();
+
+    /* The amount of ban checks that failed */
+    private final LongAdder failureCount = new LongAdder();
+
+    /* The amount of players who weren't let in because they're banned */
+    private final LongAdder deniedCount = new LongAdder();
+
+    /* The time each ban check took */
+    private final LatencyHistogram checkTimes = new LatencyHistogram();
+
+    /* Limits how often timed out and failed ban checks are logged, since they tend to happen to every player at once */
+    private final LogThrottle timeoutLog = new LogThrottle(1L, TimeUnit.MINUTES);
+    private final LogThrottle failureLog = new LogThrottle(1L, TimeUnit.MINUTES);
+
+    /* The environment providing the login timeout, failure policy and kick messages */
+    private final @NotNull BanListEnvironment environment;
+
+    public BanLoginListener(@NotNull BanListEnvironment environment) {
+        this.environment = environment;
+    }
+
     // Handle this second-lowest so other plugins can modify the result before us
     @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
     private void handleLogin(AsyncPlayerPreLoginEvent event) {
+        long start = System.nanoTime();
+
         try {
-            List<BanEntry> bans = BanListService.INSTANCE.getBanEntries(event.getUniqueId()).get();
-
-            for (BanEntry ban : bans) {
-                if (ban.isActive()) {
-                    // The StringBuilder to build the final disconnection message with
-                    StringBuilder builder = new StringBuilder();
-
-                    // The disconnection message template to use
-                    List<String> template = UniversalBanList.INSTANCE.getConfig().getStringList(String.format(
-                            "kickMessages.%s",
-                            ban.isPermanent() ? "permanent" : "temporary"
-                    ));
-
-                    // Build the disconnection message
-                    Iterator<String> iterator = template.iterator();
-
-                    while (iterator.hasNext()) {
-                        String line = iterator.next()
-                                .replace("{reason}", ban.reason)
-                                .replace("{banDate}", ban.banTime.toString(TimeFormatters.DATE_FORMATTER))
-                                .replace("{banLength}", ban.banLength == null ? "Forever" : ban.banLength.toString(TimeFormatters.DURATION_FORMATTER))
-                                .replace("{expireDate}", ban.expireDate == null ? "Never" : ban.expireDate.toString(TimeFormatters.DATE_FORMATTER))
-                                .replace("{case}", ban.caseURL)
-                                ;
-
-                        builder.append(ChatColor.translateAlternateColorCodes('&', line));
-
-                        if (iterator.hasNext()) {
-                            builder.append("\n");
-                        }
-                    }
-
-                    // Set the disconnection message
-                    event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_BANNED, builder.toString());
-
-                    // Stop here - no need to continue on after finding an active ban
-                    break;
-                }
+            this.checkLogin(event);
+        } finally {
+            this.checkTimes.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Checks if a player logging in is banned, and doesn't let them in if they are.
+     * @param event The login event
+     */
+    private void checkLogin(@NotNull AsyncPlayerPreLoginEvent event) {
+        // Most players have no bans, so let them in without looking up their bans
+        BanListSnapshot snapshot = BanListService.INSTANCE.getSnapshot();
+
+        if (snapshot != null && !snapshot.mightHaveBans(event.getUniqueId())) {
+            return;
+        }
+
+        Optional<BanEntry> activeBan;
+
+        try {
+            activeBan = BanListService.INSTANCE.getActiveBan(event.getUniqueId())
+                    .get(this.environment.getLoginTimeout(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            this.timeoutCount.increment();
+
+            long skipped = this.timeoutLog.tryLog();
+
+            if (skipped != -1L) {
+                this.environment.getLogger().warning(String.format(
+                        "Checking bans for %s took longer than %dms%s",
+                        event.getUniqueId(),
+                        this.environment.getLoginTimeout(),
+                        LogThrottle.getSkippedSuffix(skipped)
+                ));
             }
-        } catch (InterruptedException | ExecutionException e) {
-            UniversalBanList.INSTANCE.getLogger().severe(String.format("Couldn't retrieve bans for %s, skipping", event.getUniqueId()));
-            e.printStackTrace();
+
+            this.checkLastKnownBans(event);
+
+            return;
+        } catch (InterruptedException | ExecutionException | RejectedExecutionException e) {
+            this.failureCount.increment();
+
+            long skipped = this.failureLog.tryLog();
+
+            if (skipped != -1L) {
+                this.environment.getLogger().log(Level.SEVERE, String.format(
+                        "Couldn't retrieve bans for %s%s",
+                        event.getUniqueId(),
+                        LogThrottle.getSkippedSuffix(skipped)
+                ), e);
+            }
+
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+
+            this.checkLastKnownBans(event);
+
+            return;
+        }
+
+        activeBan.ifPresent(ban -> this.denyBanned(event, ban));
+    }
+
+    /**
+     * Checks a player logging in against the last ban list that was fetched successfully, used when their bans couldn't be checked.
+     * If no ban list has been fetched successfully, the {@link FailurePolicy failure policy} decides whether they're let in instead.
+     * @param event The login event
+     */
+    private void checkLastKnownBans(@NotNull AsyncPlayerPreLoginEvent event) {
+        List<BanEntry> bans = BanListService.INSTANCE.getLastKnownBanEntries(event.getUniqueId());
+
+        if (bans != null) {
+            this.environment.getLogger().fine(String.format("Using the last fetched ban list for %s", event.getUniqueId()));
+
+            bans.stream().filter(BanEntry::isActive).findFirst().ifPresent(ban -> this.denyBanned(event, ban));
+        } else if (this.environment.getFailurePolicy() == FailurePolicy.CLOSED) {
+            this.environment.getLogger().fine(String.format("Not letting %s join because their bans couldn't be checked", event.getUniqueId()));
+            event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_OTHER, this.environment.getKickMessages().getUnavailableMessage());
+        } else {
+            this.environment.getLogger().fine(String.format("Letting %s join because their bans couldn't be checked", event.getUniqueId()));
         }
     }
 
+    /**
+     * Doesn't let a banned player in.
+     * @param event The login event
+     * @param ban The player's active ban
+     */
+    private void denyBanned(@NotNull AsyncPlayerPreLoginEvent event, @NotNull BanEntry ban) {
+        this.deniedCount.increment();
+
+        // Set the disconnection message
+        event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_BANNED, this.environment.getKickMessages().getKickMessage(ban));
+    }
+
+    /**
+     * Gets the amount of ban checks that didn't finish within the login timeout.
+     * @return The amount of timed out ban checks
+     */
+    public long getTimeoutCount() {
+        return this.timeoutCount.sum();
+    }
+
+    /**
+     * Gets the amount of ban checks that failed, excluding the ones that timed out.
+     * @return The amount of failed ban checks
+     */
+    public long getFailureCount() {
+        return this.failureCount.sum();
+    }
+
+    /**
+     * Gets the amount of players who weren't let in because they're banned.
+     * @return The amount of denied logins
+     */
+    public long getDeniedCount() {
+        return this.deniedCount.sum();
+    }
+
+    /**
+     * Gets the time each ban check took, including checks that timed out or failed.
+     * @return The histogram of ban check times
+     */
+    public @NotNull LatencyHistogram getCheckTimes() {
+        return this.checkTimes;
+    }
+
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban.listener;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.jetbrains.annotations.NotNull;
+import rip.paragon.universalbanlist.ban.BanEntry;
+import rip.paragon.universalbanlist.ban.BanListDiff;
+import rip.paragon.universalbanlist.ban.BanListEnvironment;
+import rip.paragon.universalbanlist.ban.event.BanListUpdateEvent;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @since October 17, 2026
+ * Kicks online players when they're banned.
+ *
+ * New bans are queued when the ban list changes, then checked in batches every tick on the main thread,
+ * so a large change to the ban list doesn't stall the server.
+ */
+public class OnlineBanEnforcer implements Listener, Runnable {
+
+    /* The bans waiting to be enforced */
+    private final @NotNull Queue<@NotNull BanEntry> pendingBans = new ConcurrentLinkedQueue<>();
+
+    /* The amount of online players kicked because they were banned */
+    private final @NotNull LongAdder kickCount = new LongAdder();
+
+    /* The environment providing the online players, batch size and kick messages */
+    private final @NotNull BanListEnvironment environment;
+
+    public OnlineBanEnforcer(@NotNull BanListEnvironment environment) {
+        this.environment = environment;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    private void handleUpdate(BanListUpdateEvent event) {
+        BanListDiff diff = event.getDiff();
+
+        for (BanEntry ban : diff.getAdded()) {
+            if (ban.isActive()) {
+                this.pendingBans.add(ban);
+            }
+        }
+
+        // Bans that were expired, but were extended
+        for (BanListDiff.Change change : diff.getChanged()) {
+            if (change.current.isActive() && !change.previous.isActive()) {
+                this.pendingBans.add(change.current);
+            }
+        }
+    }
+
+    /**
+     * Enforces the next batch of bans. Must be run on the main thread.
+     */
+    @Override
+    public void run() {
+        int batchSize = this.environment.getEnforcementBatchSize();
+
+        for (int i = 0; i < batchSize; i++) {
+            BanEntry ban = this.pendingBans.poll();
+
+            if (ban == null) {
+                return;
+            }
+
+            Player player = this.environment.getPlayer(ban.getPlayerID());
+
+            // The ban may have expired while it was queued
+            if (player != null && ban.isActive()) {
+                player.kickPlayer(this.environment.getKickMessages().getKickMessage(ban));
+                this.kickCount.increment();
+            }
+        }
+    }
+
+    /**
+     * Gets the amount of bans waiting to be enforced.
+     * @return The amount of queued bans
+     */
+    public int getPendingCount() {
+        return this.pendingBans.size();
+    }
+
+    /**
+     * Gets the amount of online players kicked because they were banned.
+     * @return The amount of kicked players
+     */
+    public long getKickCount() {
+        return this.kickCount.sum();
+    }
+
+}
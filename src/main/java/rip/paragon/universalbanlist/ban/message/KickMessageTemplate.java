@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban.message;
+
+import org.bukkit.ChatColor;
+import org.jetbrains.annotations.NotNull;
+import org.joda.time.DateTime;
+import org.joda.time.Period;
+import rip.paragon.universalbanlist.ban.BanEntry;
+import rip.paragon.universalbanlist.util.TimeFormatters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @since October 17, 2026
+ * Represents a compiled kick message template. The template is split into literal text, which already has its
+ * color codes translated, and placeholders, so rendering a message is a single pass with no searching.
+ */
+public final class KickMessageTemplate {
+
+    /* The literal text and placeholders of the template, in order. Literal text is a String, placeholders are a Placeholder. */
+    private final @NotNull List<@NotNull Object> segments;
+
+    private KickMessageTemplate(@NotNull List<@NotNull Object> segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Renders this template for a ban.
+     * @param ban The ban
+     * @return The rendered message
+     */
+    public @NotNull String render(@NotNull BanEntry ban) {
+        StringBuilder builder = new StringBuilder();
+
+        for (Object segment : this.segments) {
+            if (segment instanceof Placeholder) {
+                builder.append(((Placeholder) segment).getValue(ban));
+            } else {
+                builder.append((String) segment);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Compiles a kick message template.
+     * @param lines The lines of the template, with alternate color codes like "&c" and placeholders like "{reason}"
+     * @return The compiled template
+     */
+    public static @NotNull KickMessageTemplate compile(@NotNull List<String> lines) {
+        String template = ChatColor.translateAlternateColorCodes('&', String.join("\n", lines));
+        List<Object> segments = new ArrayList<>();
+
+        // The start of the literal text that hasn't been added yet
+        int literalStart = 0;
+        int index = 0;
+
+        while ((index = template.indexOf('{', index)) != -1) {
+            int end = template.indexOf('}', index);
+
+            if (end == -1) {
+                break;
+            }
+
+            Placeholder placeholder = Placeholder.find(template.substring(index + 1, end));
+
+            // Unknown placeholders are left as-is
+            if (placeholder == null) {
+                index++;
+                continue;
+            }
+
+            if (index > literalStart) {
+                segments.add(template.substring(literalStart, index));
+            }
+
+            segments.add(placeholder);
+            literalStart = index = end + 1;
+        }
+
+        if (literalStart < template.length()) {
+            segments.add(template.substring(literalStart));
+        }
+
+        return new KickMessageTemplate(Collections.unmodifiableList(segments));
+    }
+
+    /**
+     * Represents a placeholder in a kick message template.
+     */
+    private enum Placeholder {
+
+        REASON("reason") {
+            @Override
+            @NotNull String getValue(@NotNull BanEntry ban) {
+                return ban.reason;
+            }
+        },
+
+        BAN_DATE("banDate") {
+            @Override
+            @NotNull String getValue(@NotNull BanEntry ban) {
+                return ban.getBanTime().toString(TimeFormatters.DATE_FORMATTER);
+            }
+        },
+
+        BAN_LENGTH("banLength") {
+            @Override
+            @NotNull String getValue(@NotNull BanEntry ban) {
+                Period banLength = ban.getBanLength();
+
+                return banLength == null ? "Forever" : banLength.toString(TimeFormatters.DURATION_FORMATTER);
+            }
+        },
+
+        EXPIRE_DATE("expireDate") {
+            @Override
+            @NotNull String getValue(@NotNull BanEntry ban) {
+                DateTime expireDate = ban.getExpireDate();
+
+                return expireDate == null ? "Never" : expireDate.toString(TimeFormatters.DATE_FORMATTER);
+            }
+        },
+
+        CASE("case") {
+            @Override
+            @NotNull String getValue(@NotNull BanEntry ban) {
+                return ban.caseURL;
+            }
+        },
+
+        SOURCE("source") {
+            @Override
+            @NotNull String getValue(@NotNull BanEntry ban) {
+                return ban.source;
+            }
+        };
+
+        /* The name of the placeholder, without the curly brackets */
+        private final @NotNull String name;
+
+        Placeholder(@NotNull String name) {
+            this.name = name;
+        }
+
+        /**
+         * Gets the value of this placeholder for a ban.
+         * @param ban The ban
+         * @return The value
+         */
+        abstract @NotNull String getValue(@NotNull BanEntry ban);
+
+        /**
+         * Finds the placeholder with the specified name.
+         * @param name The name, without the curly brackets
+         * @return The placeholder, or null if there isn't one with the name
+         */
+        static Placeholder find(@NotNull String name) {
+            for (Placeholder placeholder : values()) {
+                if (placeholder.name.equals(name)) {
+                    return placeholder;
+                }
+            }
+
+            return null;
+        }
+
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.ban.message;
+
+import org.bukkit.ChatColor;
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.NotNull;
+import rip.paragon.universalbanlist.ban.BanEntry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @since October 17, 2026
+ * Contains the compiled kick message templates from the plugin's configuration file.
+ * Rendered messages are cached for each ban, since they only depend on the ban and the template.
+ */
+public final class KickMessages {
+
+    /* The maximum amount of rendered messages that are cached */
+    private static final int MAX_CACHED_MESSAGES = 1024;
+
+    /* The template used for permanent bans */
+    private final @NotNull KickMessageTemplate permanent;
+
+    /* The template used for temporary bans */
+    private final @NotNull KickMessageTemplate temporary;
+
+    /* The message used when a player's bans couldn't be checked */
+    private final @NotNull String unavailable;
+
+    /* The rendered messages for each ban */
+    private final @NotNull Map<@NotNull BanEntry, @NotNull String> renderedMessages = new ConcurrentHashMap<>();
+
+    private KickMessages(@NotNull KickMessageTemplate permanent, @NotNull KickMessageTemplate temporary, @NotNull String unavailable) {
+        this.permanent = permanent;
+        this.temporary = temporary;
+        this.unavailable = unavailable;
+    }
+
+    /**
+     * Gets the kick message for a banned player.
+     * @param ban The player's active ban
+     * @return The kick message
+     */
+    public @NotNull String getKickMessage(@NotNull BanEntry ban) {
+        String message = this.renderedMessages.get(ban);
+
+        if (message == null) {
+            message = (ban.isPermanent() ? this.permanent : this.temporary).render(ban);
+
+            // Don't let the cache grow forever if the ban list keeps changing
+            if (this.renderedMessages.size() >= MAX_CACHED_MESSAGES) {
+                this.renderedMessages.clear();
+            }
+
+            this.renderedMessages.put(ban, message);
+        }
+
+        return message;
+    }
+
+    /**
+     * Gets the kick message for a player whose bans couldn't be checked.
+     * @return The kick message
+     */
+    public @NotNull String getUnavailableMessage() {
+        return this.unavailable;
+    }
+
+    /**
+     * Compiles the kick message templates in the kickMessages section.
+     * @param config The plugin's configuration file
+     * @return The compiled templates
+     */
+    public static @NotNull KickMessages compile(@NotNull ConfigurationSection config) {
+        return new KickMessages(
+                KickMessageTemplate.compile(config.getStringList("kickMessages.permanent")),
+                KickMessageTemplate.compile(config.getStringList("kickMessages.temporary")),
+                ChatColor.translateAlternateColorCodes('&', String.join("\n", config.getStringList("kickMessages.unavailable")))
+        );
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.command;
+
+import org.bukkit.ChatColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import rip.paragon.universalbanlist.UniversalBanList;
+import rip.paragon.universalbanlist.ban.BanEntry;
+import rip.paragon.universalbanlist.ban.BanListService;
+
+import java.util.*;
+import java.util.logging.Level;
+
+/**
+ * @since October 17, 2026
+ * Command used to check every online player against the ban list at once.
+ */
+public class AuditCommand implements CommandExecutor {
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String alias, String[] args) {
+        Map<UUID, String> players = new HashMap<>();
+
+        for (Player player : UniversalBanList.INSTANCE.getServer().getOnlinePlayers()) {
+            players.put(player.getUniqueId(), player.getName());
+        }
+
+        sender.sendMessage(ChatColor.GRAY + String.format("Checking %d online players against the Universal Ban List...", players.size()));
+
+        BanListService.INSTANCE.getBanEntries(players.keySet()).whenComplete((bans, throwable) -> {
+            List<String> response = new ArrayList<>();
+
+            if (throwable != null) {
+                UniversalBanList.INSTANCE.getLogger().log(Level.SEVERE, "Couldn't audit online players", throwable);
+
+                response.add(ChatColor.RED + "Couldn't fetch the ban list, check the console for details.");
+            } else {
+                for (Map.Entry<UUID, List<BanEntry>> entry : bans.entrySet()) {
+                    for (BanEntry ban : entry.getValue()) {
+                        if (ban.isActive()) {
+                            response.add(ChatColor.RED + String.format(
+                                    "%s is banned: %s (%s)",
+                                    players.get(entry.getKey()),
+                                    ban.reason,
+                                    ban.caseURL
+                            ));
+
+                            break;
+                        }
+                    }
+                }
+
+                response.add(0, (response.isEmpty() ? ChatColor.GREEN : ChatColor.YELLOW) + String.format(
+                        "%d of %d online players have active bans.",
+                        response.size(),
+                        players.size()
+                ));
+            }
+
+            // Reply on the main thread
+            UniversalBanList.INSTANCE.getServer().getScheduler().runTask(
+                    UniversalBanList.INSTANCE,
+                    () -> sender.sendMessage(response.toArray(new String[0]))
+            );
+        });
+
+        return true;
+    }
+
+}
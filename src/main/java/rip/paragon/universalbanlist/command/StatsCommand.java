@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.command;
+
+import org.bukkit.ChatColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import rip.paragon.universalbanlist.UniversalBanList;
+import rip.paragon.universalbanlist.ban.BanListService;
+import rip.paragon.universalbanlist.ban.BanListSnapshot;
+import rip.paragon.universalbanlist.ban.BanListSource;
+import rip.paragon.universalbanlist.ban.listener.BanLoginListener;
+import rip.paragon.universalbanlist.ban.listener.OnlineBanEnforcer;
+import rip.paragon.universalbanlist.util.BoundedExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @since October 17, 2026
+ * Command used to show how long fetching the ban list and checking players' bans takes, along with other statistics.
+ */
+public class StatsCommand implements CommandExecutor {
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String alias, String[] args) {
+        List<String> response = new ArrayList<>();
+        BanLoginListener loginListener = UniversalBanList.INSTANCE.getLoginListener();
+        OnlineBanEnforcer banEnforcer = UniversalBanList.INSTANCE.getBanEnforcer();
+        BoundedExecutor executor = UniversalBanList.INSTANCE.getExecutor();
+
+        response.add(ChatColor.GOLD + "UniversalBanList statistics");
+        response.add(ChatColor.YELLOW + "Logins: " + ChatColor.GRAY + String.format(
+                "%s, %d denied, %d timed out, %d failed",
+                loginListener.getCheckTimes(),
+                loginListener.getDeniedCount(),
+                loginListener.getTimeoutCount(),
+                loginListener.getFailureCount()
+        ));
+        response.add(ChatColor.YELLOW + "Online players: " + ChatColor.GRAY + String.format(
+                "%d kicked, %d bans pending",
+                banEnforcer.getKickCount(),
+                banEnforcer.getPendingCount()
+        ));
+        response.add(ChatColor.YELLOW + "Workers: " + ChatColor.GRAY + String.format(
+                "%d active, %d queued, %d rejected",
+                executor.getActiveCount(),
+                executor.getQueueDepth(),
+                executor.getRejectedCount()
+        ));
+
+        BanListSnapshot snapshot = BanListService.INSTANCE.getSnapshot();
+
+        if (snapshot != null) {
+            response.add(ChatColor.YELLOW + "Snapshot: " + ChatColor.GRAY + String.format(
+                    "%d bans, %d active",
+                    snapshot.getEntries().size(),
+                    snapshot.getExpiryIndex().getActiveCount()
+            ));
+        }
+
+        for (BanListSource source : BanListService.INSTANCE.getSources()) {
+            long lastFetchDuration = source.getLastFetchDuration(TimeUnit.MILLISECONDS);
+
+            response.add(ChatColor.YELLOW + "Source " + source.name + ": " + ChatColor.GRAY + String.format(
+                    "%d fetches, %d failed, last %s",
+                    source.getFetchCount(),
+                    source.getFailureCount(),
+                    lastFetchDuration != -1L ? String.format("%s in %dms", source.getLastStatus(), lastFetchDuration) : "never"
+            ));
+            response.add(ChatColor.GRAY + String.format(
+                    "  Fetch: %s, %s downloaded (%s decompressed)",
+                    source.getFetchTimes(),
+                    formatBytes(source.getBytesDownloaded()),
+                    formatBytes(source.getBytesDecoded())
+            ));
+
+            long retryTime = source.getRetryTime();
+
+            if (retryTime != 0L) {
+                response.add(ChatColor.RED + String.format(
+                        "  Backing off: %d failures in a row, retrying in %ds",
+                        source.getConsecutiveFailures(),
+                        Math.max(0L, TimeUnit.MILLISECONDS.toSeconds(retryTime - System.currentTimeMillis()))
+                ));
+            }
+
+            if (source.getHeldBackCount() > 0L) {
+                response.add(ChatColor.GRAY + String.format("  %d fetches reused the last download instead of contacting the source", source.getHeldBackCount()));
+            }
+
+            response.add(ChatColor.GRAY + String.format(
+                    "  Parse: %s, %d rows read, %d malformed",
+                    source.getParseTimes(),
+                    source.getRowsRead(),
+                    source.getRowsRejected()
+            ));
+
+            Map<Integer, Long> httpStatusCounts = source.getHttpStatusCounts();
+
+            if (!httpStatusCounts.isEmpty()) {
+                StringBuilder statuses = new StringBuilder("  HTTP responses:");
+
+                for (Map.Entry<Integer, Long> entry : httpStatusCounts.entrySet()) {
+                    statuses.append(' ').append(entry.getKey()).append(" x").append(entry.getValue());
+                }
+
+                response.add(ChatColor.GRAY + statuses.toString());
+            }
+        }
+
+        sender.sendMessage(response.toArray(new String[0]));
+
+        return true;
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024L) {
+            return bytes + " B";
+        }
+
+        if (bytes < 1024L * 1024L) {
+            return String.format("%.1f KiB", bytes / 1024.0D);
+        }
+
+        return String.format("%.1f MiB", bytes / (1024.0D * 1024.0D));
+    }
+
+}
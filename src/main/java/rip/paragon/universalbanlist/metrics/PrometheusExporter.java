@@ -0,0 +1,265 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.jetbrains.annotations.NotNull;
+import rip.paragon.universalbanlist.UniversalBanList;
+import rip.paragon.universalbanlist.ban.BanListService;
+import rip.paragon.universalbanlist.ban.BanListSnapshot;
+import rip.paragon.universalbanlist.ban.BanListSource;
+import rip.paragon.universalbanlist.ban.listener.BanLoginListener;
+import rip.paragon.universalbanlist.ban.listener.OnlineBanEnforcer;
+import rip.paragon.universalbanlist.util.BoundedExecutor;
+import rip.paragon.universalbanlist.util.LatencyHistogram;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * @since October 17, 2026
+ * Serves the plugin's metrics in the Prometheus text format at /metrics, so they can be scraped by monitoring.
+ * The metrics are read when they're requested, so nothing is done while nobody is scraping them.
+ */
+public final class PrometheusExporter implements HttpHandler, Closeable {
+
+    /* The content type of the Prometheus text format */
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    /* The HTTP server serving the metrics */
+    private final @NotNull HttpServer server;
+
+    private PrometheusExporter(@NotNull HttpServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Starts serving the metrics.
+     * @param host The address to listen on
+     * @param port The port to listen on
+     * @return The exporter
+     * @throws IOException If the port couldn't be bound.
+     */
+    public static @NotNull PrometheusExporter start(@NotNull String host, int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(host, port), 0);
+        PrometheusExporter exporter = new PrometheusExporter(server);
+
+        server.createContext("/metrics", exporter);
+        server.start();
+
+        return exporter;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("GET") && !exchange.getRequestMethod().equals("HEAD")) {
+                exchange.sendResponseHeaders(405, -1L);
+                return;
+            }
+
+            byte[] body = this.write().getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+
+            if (exchange.getRequestMethod().equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1L);
+                return;
+            }
+
+            exchange.sendResponseHeaders(200, body.length);
+
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Writes every metric in the Prometheus text format.
+     * @return The metrics
+     */
+    @NotNull String write() {
+        StringBuilder builder = new StringBuilder(4096);
+        BanLoginListener loginListener = UniversalBanList.INSTANCE.getLoginListener();
+        OnlineBanEnforcer banEnforcer = UniversalBanList.INSTANCE.getBanEnforcer();
+
+        writeHistogram(builder, "ubl_login_check_seconds", "Time taken to check a player's bans when they log in.", loginListener.getCheckTimes());
+        writeMetric(builder, "ubl_login_denied_total", "counter", "Players who weren't let in because they're banned.", loginListener.getDeniedCount());
+        writeMetric(builder, "ubl_login_timeouts_total", "counter", "Ban checks that didn't finish within the login timeout.", loginListener.getTimeoutCount());
+        writeMetric(builder, "ubl_login_failures_total", "counter", "Ban checks that failed.", loginListener.getFailureCount());
+        writeMetric(builder, "ubl_online_kicks_total", "counter", "Online players kicked because they were banned.", banEnforcer.getKickCount());
+        writeMetric(builder, "ubl_online_kicks_pending", "gauge", "Bans waiting to be enforced on online players.", banEnforcer.getPendingCount());
+
+        try {
+            BoundedExecutor executor = UniversalBanList.INSTANCE.getExecutor();
+
+            writeMetric(builder, "ubl_executor_active_threads", "gauge", "Threads looking up bans or fetching the ban list.", executor.getActiveCount());
+            writeMetric(builder, "ubl_executor_queue_depth", "gauge", "Lookups waiting for a thread.", executor.getQueueDepth());
+            writeMetric(builder, "ubl_executor_rejected_total", "counter", "Lookups rejected because too many were waiting for a thread.", executor.getRejectedCount());
+        } catch (IllegalStateException e) {
+            // The plugin is being disabled
+        }
+
+        BanListSnapshot snapshot = BanListService.INSTANCE.getSnapshot();
+
+        if (snapshot != null) {
+            writeMetric(builder, "ubl_snapshot_bans", "gauge", "Bans in the current snapshot.", snapshot.getEntries().size());
+            writeMetric(builder, "ubl_snapshot_active_bans", "gauge", "Active bans in the current snapshot.", snapshot.getExpiryIndex().getActiveCount());
+        }
+
+        // Every sample of a metric has to be grouped together, so write each metric for every source at once
+        List<BanListSource> sources = BanListService.INSTANCE.getSources();
+
+        writeHeader(builder, "ubl_source_fetch_seconds", "histogram", "Time taken to fetch a source, whether it succeeded or not.");
+
+        for (BanListSource source : sources) {
+            writeHistogramSamples(builder, "ubl_source_fetch_seconds", getLabels(source), source.getFetchTimes());
+        }
+
+        writeHeader(builder, "ubl_source_parse_seconds", "histogram", "Time taken to parse a source's whole ban list.");
+
+        for (BanListSource source : sources) {
+            writeHistogramSamples(builder, "ubl_source_parse_seconds", getLabels(source), source.getParseTimes());
+        }
+
+        writeSourceMetric(builder, sources, "ubl_source_fetches_total", "counter", "Successful fetches of a source.", BanListSource::getFetchCount);
+        writeSourceMetric(builder, sources, "ubl_source_fetch_failures_total", "counter", "Failed fetches of a source.", BanListSource::getFailureCount);
+        writeSourceMetric(builder, sources, "ubl_source_fetches_held_back_total", "counter", "Fetches that reused the last download instead of contacting a source.", BanListSource::getHeldBackCount);
+        writeSourceMetric(builder, sources, "ubl_source_consecutive_failures", "gauge", "Failed fetches of a source in a row.", BanListSource::getConsecutiveFailures);
+        writeSourceMetric(builder, sources, "ubl_source_bytes_total", "counter", "Bytes downloaded or read from a source.", BanListSource::getBytesDownloaded);
+        writeSourceMetric(builder, sources, "ubl_source_decoded_bytes_total", "counter", "Bytes of ban list data downloaded or read from a source, after decompressing.", BanListSource::getBytesDecoded);
+        writeSourceMetric(builder, sources, "ubl_source_rows_read_total", "counter", "Rows read by full reads of a source.", BanListSource::getRowsRead);
+        writeSourceMetric(builder, sources, "ubl_source_rows_rejected_total", "counter", "Malformed rows skipped by full reads of a source.", BanListSource::getRowsRejected);
+        writeSourceMetric(
+                builder,
+                sources,
+                "ubl_source_last_success_timestamp_seconds",
+                "gauge",
+                "The time a source was last fetched successfully, or -1 if it hasn't been.",
+                source -> source.getLastSuccessTime() != -1L ? source.getLastSuccessTime() / 1000.0D : -1.0D
+        );
+
+        writeHeader(builder, "ubl_source_http_responses_total", "counter", "HTTP responses from a source by response code.");
+
+        for (BanListSource source : sources) {
+            for (Map.Entry<Integer, Long> entry : source.getHttpStatusCounts().entrySet()) {
+                writeSample(builder, "ubl_source_http_responses_total", getLabels(source) + ",code=\"" + entry.getKey() + "\"", entry.getValue());
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private static void writeMetric(@NotNull StringBuilder builder, @NotNull String name, @NotNull String type, @NotNull String help, double value) {
+        writeHeader(builder, name, type, help);
+        writeSample(builder, name, "", value);
+    }
+
+    private static void writeSourceMetric(
+            @NotNull StringBuilder builder,
+            @NotNull List<@NotNull BanListSource> sources,
+            @NotNull String name,
+            @NotNull String type,
+            @NotNull String help,
+            @NotNull ToDoubleFunction<@NotNull BanListSource> value
+    ) {
+        writeHeader(builder, name, type, help);
+
+        for (BanListSource source : sources) {
+            writeSample(builder, name, getLabels(source), value.applyAsDouble(source));
+        }
+    }
+
+    private static void writeHistogram(@NotNull StringBuilder builder, @NotNull String name, @NotNull String help, @NotNull LatencyHistogram histogram) {
+        writeHeader(builder, name, "histogram", help);
+        writeHistogramSamples(builder, name, "", histogram);
+    }
+
+    private static void writeHistogramSamples(@NotNull StringBuilder builder, @NotNull String name, @NotNull String labels, @NotNull LatencyHistogram histogram) {
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        long cumulative = 0L;
+
+        // Prometheus buckets are cumulative. The last bucket has no upper bound, so it's the +Inf bucket.
+        for (int i = 0; i < LatencyHistogram.BUCKET_COUNT - 1; i++) {
+            cumulative += histogram.getBucketCount(i);
+
+            writeSample(builder, name + "_bucket", prefix + "le=\"" + formatValue(LatencyHistogram.getBucketUpperBound(i) / 1e9D) + "\"", cumulative);
+        }
+
+        cumulative += histogram.getBucketCount(LatencyHistogram.BUCKET_COUNT - 1);
+
+        writeSample(builder, name + "_bucket", prefix + "le=\"+Inf\"", cumulative);
+        writeSample(builder, name + "_sum", labels, histogram.getSum(TimeUnit.NANOSECONDS) / 1e9D);
+        writeSample(builder, name + "_count", labels, cumulative);
+    }
+
+    private static void writeHeader(@NotNull StringBuilder builder, @NotNull String name, @NotNull String type, @NotNull String help) {
+        builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void writeSample(@NotNull StringBuilder builder, @NotNull String name, @NotNull String labels, double value) {
+        builder.append(name);
+
+        if (!labels.isEmpty()) {
+            builder.append('{').append(labels).append('}');
+        }
+
+        builder.append(' ').append(formatValue(value)).append('\n');
+    }
+
+    private static @NotNull String getLabels(@NotNull BanListSource source) {
+        return "source=\"" + escape(source.name) + "\"";
+    }
+
+    private static @NotNull String formatValue(double value) {
+        return value == Math.rint(value) && Math.abs(value) < 1e15D ? Long.toString((long) value) : Double.toString(value);
+    }
+
+    private static @NotNull String escape(@NotNull String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * Stops serving the metrics.
+     */
+    @Override
+    public void close() {
+        this.server.stop(0);
+    }
+
+}
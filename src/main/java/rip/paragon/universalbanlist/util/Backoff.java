@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.util;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * @since October 17, 2026
+ * Calculates how long to wait before contacting a ban list's server again.
+ *
+ * Every delay is randomized, so servers that were started at the same time or failed at the same time
+ * don't all contact the ban list's server at the same moment.
+ */
+public final class Backoff {
+
+    private Backoff() {}
+
+    /**
+     * Gets the delay until the next refresh, randomly spread around the refresh interval.
+     * @param interval The refresh interval, in milliseconds
+     * @param jitter How far the delay can be from the interval, as a fraction of the interval from 0 to 1
+     * @param random A random number from 0 (inclusive) to 1 (exclusive)
+     * @return The delay, in milliseconds. Always at least 1.
+     */
+    public static long getRefreshDelay(long interval, double jitter, double random) {
+        double spread = interval * Math.min(1.0D, Math.max(0.0D, jitter));
+
+        return Math.max(1L, Math.round(interval - spread + 2.0D * spread * random));
+    }
+
+    /**
+     * Gets the delay until retrying after some failures in a row. The delay doubles with each failure up to a maximum,
+     * and is randomized between half of that and all of it.
+     * @param failures The amount of failures in a row. Always at least 1.
+     * @param initial The delay after the first failure, in milliseconds
+     * @param max The maximum delay, in milliseconds
+     * @param random A random number from 0 (inclusive) to 1 (exclusive)
+     * @return The delay, in milliseconds. Always at least 1.
+     */
+    public static long getFailureDelay(int failures, long initial, long max, double random) {
+        long delay = Math.max(1L, initial);
+
+        // Doubling past the maximum could overflow, so stop at the maximum
+        for (int i = 1; i < failures && delay < max; i++) {
+            delay = delay > max / 2L ? max : delay * 2L;
+        }
+
+        delay = Math.min(delay, max);
+
+        return Math.max(1L, delay / 2L + Math.round(delay / 2.0D * random));
+    }
+
+    /**
+     * Parses the value of a HTTP Retry-After header, which is either an amount of seconds or a date.
+     * @param value The value of the header
+     * @param now The current time, in milliseconds since the epoch
+     * @return The time to wait, in milliseconds, or -1 if there isn't a header or it's malformed.
+     */
+    public static long parseRetryAfter(@Nullable String value, long now) {
+        if (value == null) {
+            return -1L;
+        }
+
+        String trimmed = value.trim();
+
+        try {
+            long seconds = Long.parseLong(trimmed);
+
+            return seconds >= 0L ? Math.multiplyExact(seconds, 1000L) : -1L;
+        } catch (NumberFormatException | ArithmeticException e) {
+            // Not an amount of seconds, so it should be a date
+        }
+
+        try {
+            long time = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+
+            return Math.max(0L, time - now);
+        } catch (DateTimeParseException e) {
+            return -1L;
+        }
+    }
+
+}
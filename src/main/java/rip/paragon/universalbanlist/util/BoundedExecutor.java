@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @since October 17, 2026
+ * A thread pool with a fixed amount of named threads and a bounded queue, which keeps track of rejected tasks.
+ * Used instead of {@link ForkJoinPool#commonPool()} so blocking I/O doesn't compete with other plugins for threads.
+ */
+public class BoundedExecutor extends ThreadPoolExecutor {
+
+    /* How long idle threads are kept alive, in seconds */
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    /* The amount of tasks that were rejected because the queue was full */
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * Creates a bounded executor.
+     * @param name The name of the threads, which will be followed by their number
+     * @param threads The maximum amount of threads
+     * @param queueSize The maximum amount of tasks waiting for a thread
+     * @param rejectionPolicy What to do with tasks submitted while the queue is full
+     */
+    public BoundedExecutor(@NotNull String name, int threads, int queueSize, @NotNull RejectionPolicy rejectionPolicy) {
+        super(
+                threads,
+                threads,
+                KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                new NamedThreadFactory(name)
+        );
+
+        // Let idle threads die so the pool doesn't use any threads while nothing is happening
+        super.allowCoreThreadTimeOut(true);
+
+        RejectedExecutionHandler handler = rejectionPolicy == RejectionPolicy.CALLER_RUNS
+                ? new CallerRunsPolicy()
+                : new AbortPolicy();
+
+        super.setRejectedExecutionHandler((task, executor) -> {
+            this.rejectedCount.increment();
+            handler.rejectedExecution(task, executor);
+        });
+    }
+
+    /**
+     * Gets the amount of tasks waiting for a thread.
+     * @return The queue depth
+     */
+    public int getQueueDepth() {
+        return super.getQueue().size();
+    }
+
+    /**
+     * Gets the amount of tasks that were rejected because the queue was full.
+     * With the {@link RejectionPolicy#CALLER_RUNS caller runs policy}, these tasks were run by the thread that submitted them.
+     * @return The amount of rejected tasks
+     */
+    public long getRejectedCount() {
+        return this.rejectedCount.sum();
+    }
+
+    /**
+     * Represents what happens to tasks submitted while the queue is full.
+     */
+    public enum RejectionPolicy {
+
+        /* The task is run by the thread that submitted it */
+        CALLER_RUNS,
+
+        /* The task is rejected with a RejectedExecutionException */
+        ABORT
+
+    }
+
+    /**
+     * Creates daemon threads named after the pool, like "UniversalBanList Worker #1".
+     */
+    private static final class NamedThreadFactory implements ThreadFactory {
+
+        private final @NotNull String name;
+        private final AtomicInteger count = new AtomicInteger();
+
+        NamedThreadFactory(@NotNull String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(@NotNull Runnable runnable) {
+            Thread thread = new Thread(runnable, this.name + " #" + this.count.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @since October 17, 2026
+ * A lock-free histogram of latencies with fixed, exponentially sized buckets.
+ *
+ * Bucket i counts latencies up to 2^i microseconds (rounded to 1024 nanoseconds), so recording a latency is just
+ * a few bit operations and an increment. Percentiles are estimated as the upper bound of the bucket they fall in,
+ * which is at most twice the real value.
+ */
+public final class LatencyHistogram {
+
+    /* The amount of buckets. The last bucket counts every latency above 2^34 microseconds (roughly 4.8 hours). */
+    public static final int BUCKET_COUNT = 36;
+
+    /* The amount of latencies in each bucket */
+    private final @NotNull LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+    /* The amount of latencies recorded */
+    private final @NotNull LongAdder count = new LongAdder();
+
+    /* The sum of the latencies recorded, in nanoseconds */
+    private final @NotNull LongAdder sum = new LongAdder();
+
+    /* The highest latency recorded, in nanoseconds */
+    private final @NotNull LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a latency.
+     * @param nanos The latency, in nanoseconds. Negative latencies are counted as 0.
+     */
+    public void record(long nanos) {
+        long latency = Math.max(0L, nanos);
+
+        // The index of the highest bit of the latency in microseconds, rounded up
+        int bucket = 64 - Long.numberOfLeadingZeros((Math.max(1L, latency) - 1L) >> 10);
+
+        this.buckets[Math.min(bucket, BUCKET_COUNT - 1)].increment();
+        this.count.increment();
+        this.sum.add(latency);
+        this.max.accumulate(latency);
+    }
+
+    /**
+     * Gets the amount of latencies recorded.
+     * @return The count
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * Gets the sum of the latencies recorded.
+     * @param unit The unit of the result
+     * @return The sum
+     */
+    public long getSum(@NotNull TimeUnit unit) {
+        return unit.convert(this.sum.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the highest latency recorded.
+     * @param unit The unit of the result
+     * @return The highest latency, or 0 if none have been recorded.
+     */
+    public long getMax(@NotNull TimeUnit unit) {
+        return unit.convert(this.max.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Estimates a percentile of the latencies recorded.
+     * @param percentile The percentile, from 0 to 100
+     * @param unit The unit of the result
+     * @return The upper bound of the bucket the percentile falls in, capped at the highest latency recorded,
+     *         or 0 if none have been recorded.
+     */
+    public long getPercentile(double percentile, @NotNull TimeUnit unit) {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0L;
+
+        // Counts may change while they're being read, so work from one copy of them
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = this.buckets[i].sum();
+            total += counts[i];
+        }
+
+        if (total == 0L) {
+            return 0L;
+        }
+
+        long rank = Math.max(1L, (long) Math.ceil(total * Math.min(100.0D, Math.max(0.0D, percentile)) / 100.0D));
+        long seen = 0L;
+        long max = this.max.get();
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+
+            if (seen >= rank) {
+                return unit.convert(Math.min(getBucketUpperBound(i), max), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        return unit.convert(max, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the amount of latencies in a bucket.
+     * @param bucket The index of the bucket
+     * @return The amount of latencies
+     */
+    public long getBucketCount(int bucket) {
+        return this.buckets[bucket].sum();
+    }
+
+    /**
+     * Gets the highest latency counted by a bucket.
+     * @param bucket The index of the bucket
+     * @return The upper bound, in nanoseconds, or {@link Long#MAX_VALUE} for the last bucket.
+     */
+    public static long getBucketUpperBound(int bucket) {
+        return bucket == BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1024L << bucket;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "p50 %.2fms, p99 %.2fms, max %.2fms (%d recorded)",
+                this.getPercentile(50.0D, TimeUnit.MICROSECONDS) / 1000.0D,
+                this.getPercentile(99.0D, TimeUnit.MICROSECONDS) / 1000.0D,
+                this.getMax(TimeUnit.MICROSECONDS) / 1000.0D,
+                this.getCount()
+        );
+    }
+
+}
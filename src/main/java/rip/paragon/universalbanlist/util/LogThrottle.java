@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @since October 17, 2026
+ * Limits how often a message is logged, so a problem affecting every player who joins doesn't flood the log.
+ * The first message is always logged, then at most one per interval, along with how many were skipped in between.
+ */
+public final class LogThrottle {
+
+    /* The minimum time between logged messages, in milliseconds */
+    private final long interval;
+
+    /* The earliest time the next message can be logged, in milliseconds since the epoch */
+    private final AtomicLong nextLogTime = new AtomicLong(Long.MIN_VALUE);
+
+    /* The amount of messages skipped since the last one was logged */
+    private final AtomicLong skippedCount = new AtomicLong();
+
+    public LogThrottle(long interval, TimeUnit unit) {
+        this.interval = unit.toMillis(interval);
+    }
+
+    /**
+     * Checks if a message can be logged.
+     * @param now The current time, in milliseconds since the epoch
+     * @return The amount of messages skipped since the last one was logged, or -1 if this message should be skipped.
+     */
+    public long tryLog(long now) {
+        long nextLogTime = this.nextLogTime.get();
+
+        if (now < nextLogTime || !this.nextLogTime.compareAndSet(nextLogTime, now + this.interval)) {
+            this.skippedCount.incrementAndGet();
+
+            return -1L;
+        }
+
+        return this.skippedCount.getAndSet(0L);
+    }
+
+    /**
+     * Checks if a message can be logged now.
+     * @return The amount of messages skipped since the last one was logged, or -1 if this message should be skipped.
+     */
+    public long tryLog() {
+        return this.tryLog(System.currentTimeMillis());
+    }
+
+    /**
+     * Gets the text appended to a throttled message, saying how many similar messages weren't logged.
+     * @param skipped The amount of messages skipped since the last one was logged
+     * @return The text, or an empty string if none were skipped.
+     */
+    public static @NotNull String getSkippedSuffix(long skipped) {
+        return skipped > 0L ? String.format(" (and %d more since the last message)", skipped) : "";
+    }
+
+}
@@ -0,0 +1,403 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Period;
+
+/**
+ * @since October 17, 2026
+ * Contains fast parsers for the date and duration formats used on the Universal Ban List, like "12 September, 2022"
+ * and "12 Months, 2 Weeks". These give the same results as {@link TimeFormatters#DATE_FORMATTER} (with English month names)
+ * and {@link TimeFormatters#DURATION_FORMATTER}, but don't create any objects and signal invalid input with a return value
+ * instead of throwing an exception. Signed numbers, years after {@link TimeParsers#MAX_YEAR} and duration amounts larger than
+ * {@link TimeParsers#MAX_PERIOD_FIELD} are never used on the ban list, so they're considered invalid.
+ *
+ * Dates are returned as milliseconds since the epoch, and durations are packed into a single long
+ * which can be read with methods like {@link TimeParsers#getMonths(long)}.
+ */
+public class TimeParsers {
+
+    private TimeParsers() {}
+
+    /* Returned by the date parser if the input is invalid */
+    public static final long INVALID_DATE = Long.MIN_VALUE;
+
+    /* Returned by the duration parser if the input is invalid */
+    public static final long INVALID_PERIOD = -1L;
+
+    /* The largest year that can be parsed */
+    public static final int MAX_YEAR = 9999;
+
+    /* The largest amount of any unit in a duration that can be parsed */
+    public static final int MAX_PERIOD_FIELD = 0xFFF;
+
+    /* The amount of milliseconds in a day */
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    /* The English month names. The short names are the first 3 letters. */
+    private static final String[] MONTH_NAMES = {
+            "January", "February", "March", "April", "May", "June",
+            "July", "August", "September", "October", "November", "December"
+    };
+
+    /* The units of a duration, in the order they must appear in */
+    private static final String[] PERIOD_UNITS = { " Year", " Month", " Week", " Minute", " Second" };
+
+    /* The amount of bits used by each unit in a packed duration */
+    private static final int PERIOD_FIELD_BITS = 12;
+
+    /**
+     * Parses a date such as "12 September, 2022" in the default time zone.
+     * @param text The text to parse
+     * @return The start of the day in milliseconds since the epoch, or {@link TimeParsers#INVALID_DATE} if the text is invalid.
+     */
+    public static long parseDate(@NotNull CharSequence text) {
+        return parseDate(text, 0, text.length(), DateTimeZone.getDefault());
+    }
+
+    /**
+     * Parses a date such as "12 September, 2022".
+     * @param text The text containing the date
+     * @param start The index of the first character of the date
+     * @param end The index after the last character of the date
+     * @param zone The time zone of the date
+     * @return The start of the day in milliseconds since the epoch, or {@link TimeParsers#INVALID_DATE} if the text is invalid.
+     */
+    public static long parseDate(@NotNull CharSequence text, int start, int end, @NotNull DateTimeZone zone) {
+        int index = start;
+
+        // Day of month, 1 or 2 digits
+        int day = 0;
+        int digits = 0;
+
+        while (index < end && digits < 2 && isDigit(text.charAt(index))) {
+            day = day * 10 + (text.charAt(index++) - '0');
+            digits++;
+        }
+
+        if (digits == 0 || index >= end || text.charAt(index++) != ' ') {
+            return INVALID_DATE;
+        }
+
+        // Month name, full or short
+        int monthStart = index;
+
+        while (index < end && isLetter(text.charAt(index))) {
+            index++;
+        }
+
+        int month = parseMonth(text, monthStart, index);
+
+        if (month == 0 || end - index < 2 || text.charAt(index) != ',' || text.charAt(index + 1) != ' ') {
+            return INVALID_DATE;
+        }
+
+        index += 2;
+
+        // Year, up to 9 digits
+        int year = 0;
+        digits = 0;
+
+        while (index < end && isDigit(text.charAt(index))) {
+            if (++digits > 9) {
+                return INVALID_DATE;
+            }
+
+            year = year * 10 + (text.charAt(index++) - '0');
+        }
+
+        if (digits == 0 || index != end || year > MAX_YEAR || day < 1 || day > getDaysInMonth(year, month)) {
+            return INVALID_DATE;
+        }
+
+        long localMillis = getEpochDay(year, month, day) * MILLIS_PER_DAY;
+
+        return localMillis - zone.getOffsetFromLocal(localMillis);
+    }
+
+    /**
+     * Parses a duration such as "12 Months, 2 Weeks".
+     * @param text The text to parse
+     * @return The packed duration, or {@link TimeParsers#INVALID_PERIOD} if the text is invalid.
+     */
+    public static long parsePeriod(@NotNull CharSequence text) {
+        return parsePeriod(text, 0, text.length());
+    }
+
+    /**
+     * Parses a duration such as "12 Months, 2 Weeks".
+     * The units must be in the order of years, months, weeks, minutes and seconds, and each unit can only appear once.
+     * @param text The text containing the duration
+     * @param start The index of the first character of the duration
+     * @param end The index after the last character of the duration
+     * @return The packed duration, or {@link TimeParsers#INVALID_PERIOD} if the text is invalid.
+     */
+    public static long parsePeriod(@NotNull CharSequence text, int start, int end) {
+        long period = 0L;
+        int index = start;
+
+        // The index of the next unit that's allowed to appear
+        int nextUnit = 0;
+
+        while (index < end) {
+            // Units are separated with a comma
+            if (nextUnit > 0) {
+                if (end - index < 2 || text.charAt(index) != ',' || text.charAt(index + 1) != ' ') {
+                    return INVALID_PERIOD;
+                }
+
+                index += 2;
+            }
+
+            // The amount, up to 9 digits
+            int amount = 0;
+            int digits = 0;
+
+            while (index < end && isDigit(text.charAt(index))) {
+                if (++digits > 9) {
+                    return INVALID_PERIOD;
+                }
+
+                amount = amount * 10 + (text.charAt(index++) - '0');
+            }
+
+            if (digits == 0 || amount > MAX_PERIOD_FIELD) {
+                return INVALID_PERIOD;
+            }
+
+            // The unit, which must come after the previous one
+            int unit = nextUnit;
+
+            while (unit < PERIOD_UNITS.length && !regionMatches(text, index, end, PERIOD_UNITS[unit])) {
+                unit++;
+            }
+
+            if (unit == PERIOD_UNITS.length) {
+                return INVALID_PERIOD;
+            }
+
+            index += PERIOD_UNITS[unit].length();
+
+            // Plural units, like "Months"
+            if (index < end && (text.charAt(index) == 's' || text.charAt(index) == 'S')) {
+                index++;
+            }
+
+            period |= (long) amount << getPeriodShift(unit);
+            nextUnit = unit + 1;
+        }
+
+        return period;
+    }
+
+    /**
+     * Gets the years of a packed duration.
+     * @param period The packed duration
+     * @return The years
+     */
+    public static int getYears(long period) {
+        return getPeriodField(period, 0);
+    }
+
+    /**
+     * Gets the months of a packed duration.
+     * @param period The packed duration
+     * @return The months
+     */
+    public static int getMonths(long period) {
+        return getPeriodField(period, 1);
+    }
+
+    /**
+     * Gets the weeks of a packed duration.
+     * @param period The packed duration
+     * @return The weeks
+     */
+    public static int getWeeks(long period) {
+        return getPeriodField(period, 2);
+    }
+
+    /**
+     * Gets the minutes of a packed duration.
+     * @param period The packed duration
+     * @return The minutes
+     */
+    public static int getMinutes(long period) {
+        return getPeriodField(period, 3);
+    }
+
+    /**
+     * Gets the seconds of a packed duration.
+     * @param period The packed duration
+     * @return The seconds
+     */
+    public static int getSeconds(long period) {
+        return getPeriodField(period, 4);
+    }
+
+    /**
+     * Converts a packed duration into a {@link Period period}.
+     * @param period The packed duration
+     * @return The {@link Period period}, equal to the one {@link TimeFormatters#DURATION_FORMATTER} would have parsed.
+     */
+    public static @NotNull Period toPeriod(long period) {
+        return new Period(getYears(period), getMonths(period), getWeeks(period), 0, 0, getMinutes(period), getSeconds(period), 0);
+    }
+
+    /**
+     * Packs a {@link Period period} into a single long, the same way durations are packed when they're parsed.
+     * @param period The period
+     * @return The packed duration, or {@link TimeParsers#INVALID_PERIOD} if the period has units that can't be parsed
+     *         (like days), or negative amounts or amounts larger than {@link TimeParsers#MAX_PERIOD_FIELD}.
+     */
+    public static long packPeriod(@NotNull Period period) {
+        if (period.getDays() != 0 || period.getHours() != 0 || period.getMillis() != 0) {
+            return INVALID_PERIOD;
+        }
+
+        int[] amounts = { period.getYears(), period.getMonths(), period.getWeeks(), period.getMinutes(), period.getSeconds() };
+        long packed = 0L;
+
+        for (int unit = 0; unit < amounts.length; unit++) {
+            if (amounts[unit] < 0 || amounts[unit] > MAX_PERIOD_FIELD) {
+                return INVALID_PERIOD;
+            }
+
+            packed |= (long) amounts[unit] << getPeriodShift(unit);
+        }
+
+        return packed;
+    }
+
+    private static int getPeriodShift(int unit) {
+        return (PERIOD_UNITS.length - 1 - unit) * PERIOD_FIELD_BITS;
+    }
+
+    private static int getPeriodField(long period, int unit) {
+        return (int) (period >>> getPeriodShift(unit)) & MAX_PERIOD_FIELD;
+    }
+
+    /**
+     * Finds the month with the specified full or short English name.
+     * The name must be capitalized, lower case or upper case, like "September", "september" or "SEPTEMBER".
+     * @return The month (1-12), or 0 if there's no month with the name
+     */
+    private static int parseMonth(@NotNull CharSequence text, int start, int end) {
+        int length = end - start;
+
+        for (int i = 0; i < MONTH_NAMES.length; i++) {
+            String name = MONTH_NAMES[i];
+
+            if ((length == name.length() || length == 3) && isMonthName(text, start, name, length)) {
+                return i + 1;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Checks if the characters of text starting at an index are the first characters of a month name,
+     * either as-is, in lower case or in upper case.
+     */
+    private static boolean isMonthName(@NotNull CharSequence text, int start, @NotNull String name, int length) {
+        boolean capitalized = true;
+        boolean lowerCase = true;
+        boolean upperCase = true;
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(start + i);
+            char n = name.charAt(i);
+
+            capitalized &= c == n;
+            lowerCase &= c == Character.toLowerCase(n);
+            upperCase &= c == Character.toUpperCase(n);
+        }
+
+        return capitalized || lowerCase || upperCase;
+    }
+
+    /**
+     * Checks if a region of text starts with the specified string, ignoring case.
+     */
+    private static boolean regionMatches(@NotNull CharSequence text, int start, int end, @NotNull String prefix) {
+        return end - start >= prefix.length() && equalsIgnoreCase(text, start, prefix, prefix.length());
+    }
+
+    /**
+     * Checks if the characters of text starting at an index are the same as the first characters of a string, ignoring case.
+     */
+    private static boolean equalsIgnoreCase(@NotNull CharSequence text, int start, @NotNull String string, int length) {
+        for (int i = 0; i < length; i++) {
+            if (Character.toLowerCase(text.charAt(start + i)) != Character.toLowerCase(string.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static int getDaysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Gets the amount of days between the epoch and a date in the proleptic Gregorian calendar.
+     */
+    private static long getEpochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.util;
+
+import java.util.UUID;
+
+/**
+ * @since October 17, 2026
+ * A Bloom filter of {@link UUID UUIDs}, stored as their most and least significant bits.
+ * Checking if a UUID might be in the filter takes a few bit lookups and doesn't allocate anything.
+ * There are no false negatives, but there may be false positives.
+ */
+public final class UUIDBloomFilter {
+
+    /* The bits of the filter. The amount of bits is always a power of two. */
+    private final long[] bits;
+
+    /* The mask used to turn a hash into a bit index */
+    private final long mask;
+
+    /* The amount of bits set for each UUID */
+    private final int hashCount;
+
+    /* The amount of UUIDs added to the filter */
+    private int size;
+
+    /**
+     * Creates an empty filter.
+     * @param expectedSize The amount of UUIDs that will be added
+     * @param falsePositiveRate The desired false positive rate once every UUID is added, between 0 and 1 (exclusive)
+     */
+    public UUIDBloomFilter(int expectedSize, double falsePositiveRate) {
+        if (falsePositiveRate <= 0.0D || falsePositiveRate >= 1.0D) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+
+        int n = Math.max(1, expectedSize);
+
+        // The optimal amount of bits is -n * ln(p) / ln(2)^2, rounded up to a power of two so indices can be masked
+        double optimalBits = -n * Math.log(falsePositiveRate) / (Math.log(2.0D) * Math.log(2.0D));
+        long bitCount = Math.max(Long.SIZE, Long.highestOneBit((long) Math.ceil(optimalBits) - 1L) << 1);
+
+        this.bits = new long[(int) Math.min(bitCount / Long.SIZE, 1L << 30)];
+        this.mask = (long) this.bits.length * Long.SIZE - 1L;
+
+        // The optimal amount of hashes is (m / n) * ln(2)
+        this.hashCount = Math.max(1, (int) Math.round((double) this.getBitCount() / n * Math.log(2.0D)));
+    }
+
+    /**
+     * Adds a UUID to the filter.
+     * @param mostSigBits The UUID's most significant bits
+     * @param leastSigBits The UUID's least significant bits
+     */
+    public void add(long mostSigBits, long leastSigBits) {
+        long hash1 = mix(mostSigBits ^ Long.rotateLeft(leastSigBits, 32));
+        long hash2 = mix(leastSigBits + 0x9E3779B97F4A7C15L) | 1L;
+
+        for (int i = 0; i < this.hashCount; i++) {
+            long index = (hash1 + i * hash2) & this.mask;
+
+            this.bits[(int) (index >>> 6)] |= 1L << index;
+        }
+
+        this.size++;
+    }
+
+    /**
+     * Checks if a UUID might be in the filter.
+     * @param mostSigBits The UUID's most significant bits
+     * @param leastSigBits The UUID's least significant bits
+     * @return False if the UUID is definitely not in the filter, true if it might be.
+     */
+    public boolean mightContain(long mostSigBits, long leastSigBits) {
+        long hash1 = mix(mostSigBits ^ Long.rotateLeft(leastSigBits, 32));
+        long hash2 = mix(leastSigBits + 0x9E3779B97F4A7C15L) | 1L;
+
+        for (int i = 0; i < this.hashCount; i++) {
+            long index = (hash1 + i * hash2) & this.mask;
+
+            if ((this.bits[(int) (index >>> 6)] & (1L << index)) == 0L) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if a UUID might be in the filter.
+     * @param uuid The UUID
+     * @return False if the UUID is definitely not in the filter, true if it might be.
+     */
+    public boolean mightContain(UUID uuid) {
+        return this.mightContain(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * Gets the amount of bits in the filter.
+     * @return The size of the filter, in bits
+     */
+    public long getBitCount() {
+        return (long) this.bits.length * Long.SIZE;
+    }
+
+    /**
+     * Gets the amount of bits set for each UUID.
+     * @return The amount of hash functions
+     */
+    public int getHashCount() {
+        return this.hashCount;
+    }
+
+    /**
+     * Gets the amount of UUIDs added to the filter.
+     * @return The amount of UUIDs, including duplicates
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Gets the probability that a UUID that isn't in the filter is reported as possibly being in it,
+     * based on how many bits are set.
+     * @return The false positive rate, between 0 and 1
+     */
+    public double getFalsePositiveRate() {
+        long setBits = 0L;
+
+        for (long word : this.bits) {
+            setBits += Long.bitCount(word);
+        }
+
+        return Math.pow((double) setBits / this.getBitCount(), this.hashCount);
+    }
+
+    /**
+     * Mixes the bits of a value, so similar UUIDs don't set similar bits. This is MurmurHash3's finalizer.
+     * @param value The value
+     * @return The mixed value
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "%d UUIDs, %d KiB, %d hashes, %.3f%% false positives",
+                this.size,
+                this.getBitCount() / 8L / 1024L,
+                this.hashCount,
+                this.getFalsePositiveRate() * 100.0D
+        );
+    }
+
+}
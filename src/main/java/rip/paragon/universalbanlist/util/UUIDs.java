@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.util;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * @since October 17, 2026
+ * Contains utilities for working with {@link UUID UUIDs} in their textual form.
+ */
+public class UUIDs {
+
+    private UUIDs() {}
+
+    /* The length of a UUID in its canonical form, such as "91ce6853-830a-4a7f-bce3-25858cd79cc2" */
+    private static final int CANONICAL_LENGTH = 36;
+
+    /* The maximum amount of hexadecimal digits in each group of a UUID, separated by hyphens */
+    private static final int[] GROUP_LENGTHS = { 8, 4, 4, 4, 12 };
+
+    /**
+     * Checks if some text represents the specified {@link UUID}, without creating any objects.
+     *
+     * The text is compared character by character if it's in the canonical form. Otherwise, it's parsed the same
+     * way as {@link UUID#fromString(String)} first, without throwing an exception if it's malformed.
+     *
+     * @param text The text to check
+     * @param uuid The UUID to compare against
+     * @return If the text represents the specified UUID
+     */
+    public static boolean matches(@NotNull CharSequence text, @NotNull UUID uuid) {
+        if (text.length() != CANONICAL_LENGTH) {
+            return matchesSlow(text, uuid);
+        }
+
+        long mostSigBits = uuid.getMostSignificantBits();
+        long leastSigBits = uuid.getLeastSignificantBits();
+
+        // The index of the hexadecimal digit being compared, out of 32
+        int digitIndex = 0;
+
+        for (int i = 0; i < CANONICAL_LENGTH; i++) {
+            char c = text.charAt(i);
+
+            // Hyphens separate the groups of digits
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return matchesSlow(text, uuid);
+                }
+
+                continue;
+            }
+
+            int digit = Character.digit(c, 16);
+
+            if (digit == -1) {
+                return false;
+            }
+
+            long bits = digitIndex < 16 ? mostSigBits : leastSigBits;
+            int shift = 60 - ((digitIndex & 15) << 2);
+
+            if (((bits >>> shift) & 0xF) != digit) {
+                return false;
+            }
+
+            digitIndex++;
+        }
+
+        return true;
+    }
+
+    /**
+     * Parses a {@link UUID} without throwing an exception if the text is invalid.
+     *
+     * Text in the canonical form is parsed directly. Text with leading zeros left out of its groups, like "1-2-3-4-5",
+     * is parsed the same way as {@link UUID#fromString(String)}. Anything else is rejected.
+     *
+     * @param text The text to parse
+     * @return The UUID, or null if the text isn't a valid UUID.
+     */
+    public static @Nullable UUID parse(@NotNull CharSequence text) {
+        if (text.length() != CANONICAL_LENGTH) {
+            return parseSlow(text);
+        }
+
+        long mostSigBits = 0L;
+        long leastSigBits = 0L;
+
+        // The index of the hexadecimal digit being parsed, out of 32
+        int digitIndex = 0;
+
+        for (int i = 0; i < CANONICAL_LENGTH; i++) {
+            char c = text.charAt(i);
+
+            // Hyphens separate the groups of digits
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return parseSlow(text);
+                }
+
+                continue;
+            }
+
+            int digit = Character.digit(c, 16);
+
+            if (digit == -1) {
+                return null;
+            }
+
+            if (digitIndex < 16) {
+                mostSigBits = (mostSigBits << 4) | digit;
+            } else {
+                leastSigBits = (leastSigBits << 4) | digit;
+            }
+
+            digitIndex++;
+        }
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Parses text that isn't in the canonical form, like "1-2-3-4-5" where leading zeros are left out of each group.
+     * The text must have five groups of hexadecimal digits separated by hyphens, each no longer than in the canonical
+     * form. {@link UUID#fromString(String)} parses these the same way, but malformed text is rejected here without
+     * throwing an exception, since empty and malformed cells are common on the ban list.
+     * @param text The text to parse
+     * @return The UUID, or null if the text isn't a valid UUID.
+     */
+    private static @Nullable UUID parseSlow(@NotNull CharSequence text) {
+        int length = text.length();
+
+        if (length > CANONICAL_LENGTH) {
+            return null;
+        }
+
+        long mostSigBits = 0L;
+        long leastSigBits = 0L;
+
+        // The group being parsed, its value and its amount of digits
+        int group = 0;
+        long value = 0L;
+        int digits = 0;
+
+        // The end of the text finishes the last group, like a hyphen would
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? text.charAt(i) : '-';
+
+            if (c == '-') {
+                if (digits == 0 || (i < length && group == GROUP_LENGTHS.length - 1)) {
+                    return null;
+                }
+
+                switch (group) {
+                    case 0:
+                        mostSigBits |= value << 32;
+                        break;
+                    case 1:
+                        mostSigBits |= value << 16;
+                        break;
+                    case 2:
+                        mostSigBits |= value;
+                        break;
+                    case 3:
+                        leastSigBits |= value << 48;
+                        break;
+                    default:
+                        leastSigBits |= value;
+                        break;
+                }
+
+                group++;
+                value = 0L;
+                digits = 0;
+
+                continue;
+            }
+
+            int digit = Character.digit(c, 16);
+
+            if (digit == -1 || ++digits > GROUP_LENGTHS[group]) {
+                return null;
+            }
+
+            value = (value << 4) | digit;
+        }
+
+        return group == GROUP_LENGTHS.length ? new UUID(mostSigBits, leastSigBits) : null;
+    }
+
+    /**
+     * Checks if some text that isn't in the canonical form represents the specified {@link UUID} by parsing it.
+     * Malformed text is rejected without creating any objects.
+     * @param text The text to check
+     * @param uuid The UUID to compare against
+     * @return If the text represents the specified UUID
+     */
+    private static boolean matchesSlow(@NotNull CharSequence text, @NotNull UUID uuid) {
+        return uuid.equals(parseSlow(text));
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.test;
+
+import org.junit.Test;
+import rip.paragon.universalbanlist.util.Backoff;
+
+/**
+ * @since October 17, 2026
+ * Tests that refresh and retry delays stay within their bounds and Retry-After headers are understood.
+ */
+public class BackoffTest {
+
+    @Test
+    public void testRefreshDelay() {
+        assert Backoff.getRefreshDelay(300_000L, 0.0D, 0.75D) == 300_000L : "No jitter should use the interval";
+        assert Backoff.getRefreshDelay(300_000L, 0.1D, 0.0D) == 270_000L : "The shortest delay should be 10% sooner";
+        assert Backoff.getRefreshDelay(300_000L, 0.1D, 0.5D) == 300_000L : "The middle delay should be the interval";
+        assert Backoff.getRefreshDelay(300_000L, 0.1D, 0.999999D) <= 330_000L : "The longest delay should be 10% later";
+        assert Backoff.getRefreshDelay(300_000L, 5.0D, 0.0D) == 1L : "Jitter should be capped at the interval";
+    }
+
+    @Test
+    public void testFailureDelay() {
+        assert Backoff.getFailureDelay(1, 30_000L, 1_800_000L, 0.0D) == 15_000L : "The first delay should be at least half of the initial delay";
+        assert Backoff.getFailureDelay(1, 30_000L, 1_800_000L, 1.0D) == 30_000L : "The first delay should be at most the initial delay";
+        assert Backoff.getFailureDelay(3, 30_000L, 1_800_000L, 1.0D) == 120_000L : "The delay should double with each failure";
+        assert Backoff.getFailureDelay(10, 30_000L, 1_800_000L, 1.0D) == 1_800_000L : "The delay should be capped";
+        assert Backoff.getFailureDelay(Integer.MAX_VALUE, 30_000L, Long.MAX_VALUE, 1.0D) > 0L : "The delay shouldn't overflow";
+    }
+
+    @Test
+    public void testRetryAfter() {
+        long now = 1_445_412_480_000L; // Wed, 21 Oct 2015 07:28:00 GMT
+
+        assert Backoff.parseRetryAfter(null, now) == -1L : "A missing header should be ignored";
+        assert Backoff.parseRetryAfter("120", now) == 120_000L : "Seconds should be parsed";
+        assert Backoff.parseRetryAfter(" 0 ", now) == 0L : "Whitespace should be ignored";
+        assert Backoff.parseRetryAfter("-5", now) == -1L : "Negative seconds should be ignored";
+        assert Backoff.parseRetryAfter("Wed, 21 Oct 2015 07:30:00 GMT", now) == 120_000L : "Dates should be parsed";
+        assert Backoff.parseRetryAfter("Wed, 21 Oct 2015 07:00:00 GMT", now) == 0L : "Dates in the past should mean no wait";
+        assert Backoff.parseRetryAfter("soon", now) == -1L : "Malformed headers should be ignored";
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.test;
+
+import org.joda.time.DateTime;
+import org.joda.time.Period;
+import org.junit.Test;
+import rip.paragon.universalbanlist.ban.BanEntry;
+import rip.paragon.universalbanlist.ban.BanListDiff;
+import rip.paragon.universalbanlist.ban.BanListSnapshot;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * @since October 17, 2026
+ * Tests computing the differences between {@link BanListSnapshot snapshots}.
+ */
+public class BanListDiffTest {
+
+    private static final UUID PLAYER = UUID.fromString("91ce6853-830a-4a7f-bce3-25858cd79cc2");
+    private static final UUID OTHER_PLAYER = UUID.fromString("6b4ab9a4-1c2f-4b8e-9a36-0e5a8f1b2c3d");
+
+    @Test
+    public void testDiff() {
+        DateTime banTime = new DateTime(2020, 7, 2, 0, 0);
+
+        BanEntry kept = new BanEntry("Suggesting", PLAYER, "Test ban reason", banTime, null, null, "https://redd.it/kept");
+        BanEntry removed = new BanEntry("Suggesting", PLAYER, "Test ban reason", banTime, null, null, "https://redd.it/removed");
+        BanEntry original = new BanEntry("Other", OTHER_PLAYER, "Test ban reason", banTime, Period.months(8), banTime.plusMonths(8), "https://redd.it/changed");
+        BanEntry extended = new BanEntry("Other", OTHER_PLAYER, "Test ban reason", banTime, Period.years(1), banTime.plusYears(1), "https://redd.it/changed");
+        BanEntry added = new BanEntry("Other", OTHER_PLAYER, "Another reason", banTime, null, null, "https://redd.it/added");
+
+        BanListDiff diff = BanListDiff.compute(
+                new BanListSnapshot(Arrays.asList(kept, removed, original)),
+                new BanListSnapshot(Arrays.asList(kept, extended, added))
+        );
+
+        assert diff.getAdded().equals(Arrays.asList(added)) : "Diff should contain the added ban";
+        assert diff.getRemoved().equals(Arrays.asList(removed)) : "Diff should contain the removed ban";
+        assert diff.getChanged().size() == 1 : "Diff should contain one changed ban";
+        assert diff.getChanged().get(0).previous.equals(original) : "Changed ban should have its previous version";
+        assert diff.getChanged().get(0).current.equals(extended) : "Changed ban should have its current version";
+
+        // The same ban for a different player is a different ban
+        BanEntry sameCase = new BanEntry("Suggesting", PLAYER, "Another reason", banTime, null, null, "https://redd.it/added");
+        diff = BanListDiff.compute(new BanListSnapshot(Arrays.asList(added)), new BanListSnapshot(Arrays.asList(sameCase)));
+
+        assert diff.getAdded().size() == 1 && diff.getRemoved().size() == 1 : "Bans should be matched by player and case";
+
+        // Identical snapshots
+        diff = BanListDiff.compute(new BanListSnapshot(Arrays.asList(kept, added)), new BanListSnapshot(Arrays.asList(kept, added)));
+
+        assert diff.isEmpty() : "Identical snapshots shouldn't have any differences";
+    }
+
+}
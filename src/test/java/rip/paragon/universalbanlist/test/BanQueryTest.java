@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.test;
+
+import org.joda.time.DateTime;
+import org.junit.Test;
+import rip.paragon.universalbanlist.ban.BanEntry;
+import rip.paragon.universalbanlist.ban.BanListSnapshot;
+import rip.paragon.universalbanlist.ban.BanQuery;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * @since October 17, 2026
+ * Tests that {@link BanQuery queries} using a {@link BanListSnapshot snapshot's} indexes match checking every ban.
+ */
+public class BanQueryTest {
+
+    @Test
+    public void testQueries() {
+        Random random = new Random(0x0E77L);
+        DateTime start = new DateTime(2018, 1, 1, 0, 0);
+        String[] usernames = { "Suggesting", "suggester", "SUGAR", "Notch", "jeb_", "Dinnerbone", "Grumm" };
+        List<BanEntry> entries = new ArrayList<>();
+        List<UUID> players = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            UUID player = players.isEmpty() || random.nextInt(4) != 0 ? new UUID(random.nextLong(), random.nextLong()) : players.get(random.nextInt(players.size()));
+            DateTime banTime = start.plusHours(random.nextInt(3 * 365 * 24));
+
+            players.add(player);
+            entries.add(new BanEntry(
+                    usernames[random.nextInt(usernames.length)],
+                    player,
+                    "Test ban reason " + random.nextInt(5),
+                    banTime,
+                    null,
+                    random.nextBoolean() ? banTime.plusYears(2) : null,
+                    "https://redd.it/" + random.nextInt(500)
+            ));
+        }
+
+        BanListSnapshot snapshot = new BanListSnapshot(entries);
+        long from = start.plusYears(1).getMillis();
+        long until = start.plusYears(2).getMillis();
+
+        List<BanQuery> queries = Arrays.asList(
+                BanQuery.builder().build(),
+                BanQuery.builder().player(players.get(42)).build(),
+                BanQuery.builder().username("suggesting").build(),
+                BanQuery.builder().username("NOTCH").activeOnly().build(),
+                BanQuery.builder().usernamePrefix("sug").build(),
+                BanQuery.builder().usernamePrefix("x").build(),
+                BanQuery.builder().caseURL("https://redd.it/7").build(),
+                BanQuery.builder().bannedBetween(from, until).build(),
+                BanQuery.builder().bannedBetween(from, until).usernamePrefix("D").build(),
+                BanQuery.builder().activeOnly().build(),
+                BanQuery.builder().matching(entry -> entry.reason.endsWith("3")).build()
+        );
+
+        for (int i = 0; i < queries.size(); i++) {
+            BanQuery query = queries.get(i);
+            Set<BanEntry> expected = entries.stream().filter(query).collect(Collectors.toSet());
+
+            assert new HashSet<>(snapshot.query(query)).equals(expected) : "Query #" + i + " should match checking every ban";
+        }
+
+        assert snapshot.query(BanQuery.builder().usernamePrefix("sug").build()).size() > 0 : "Prefix query should find bans";
+
+        // Each player's bans should be found in the same order as the ban list
+        for (UUID player : players) {
+            List<BanEntry> expected = entries.stream().filter(entry -> entry.getPlayerID().equals(player)).collect(Collectors.toList());
+
+            assert snapshot.getBanEntries(player).equals(expected) : "Player lookup should match checking every ban";
+        }
+
+        assert snapshot.getBanEntries(new UUID(0L, 0L)).isEmpty() : "A player without bans should have none";
+    }
+
+}
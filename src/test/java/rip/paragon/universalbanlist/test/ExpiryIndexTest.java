@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.test;
+
+import org.joda.time.DateTime;
+import org.joda.time.Period;
+import org.junit.Test;
+import rip.paragon.universalbanlist.ban.BanEntry;
+import rip.paragon.universalbanlist.ban.ExpiryIndex;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @since October 17, 2026
+ * Tests finding active bans using an {@link ExpiryIndex expiry index}.
+ */
+public class ExpiryIndexTest {
+
+    @Test
+    public void testExpiryIndex() {
+        Random random = new Random(0xE1F1L);
+        DateTime now = DateTime.now();
+        List<BanEntry> entries = new ArrayList<>();
+
+        // Bans expiring between a year ago and a year from now, plus some permanent bans
+        for (int i = 0; i < 1000; i++) {
+            UUID player = new UUID(random.nextLong(), random.nextLong());
+            DateTime expireDate = i % 10 == 0 ? null : now.plusHours(random.nextInt(2 * 365 * 24) - 365 * 24);
+
+            entries.add(new BanEntry(
+                    "Player" + i,
+                    player,
+                    "Test ban reason",
+                    now.minusYears(2),
+                    expireDate != null ? Period.years(2) : null,
+                    expireDate,
+                    "https://redd.it/" + i
+            ));
+        }
+
+        ExpiryIndex index = new ExpiryIndex(entries);
+        Set<BanEntry> active = new HashSet<>();
+
+        for (BanEntry entry : entries) {
+            if (entry.isActive()) {
+                active.add(entry);
+            }
+        }
+
+        assert index.getActiveCount() == active.size() : "Active count should match checking every ban";
+        assert new HashSet<>(index.getActiveBans()).equals(active) : "Active bans should match checking every ban";
+        assert index.getPermanentBans().size() == 100 : "Every permanent ban should be indexed";
+
+        long weekFromNow = now.plusWeeks(1).getMillis();
+        List<BanEntry> expiringSoon = index.getBansExpiringWithin(7L, TimeUnit.DAYS);
+
+        for (BanEntry entry : entries) {
+            boolean expected = entry.isActive() && !entry.isPermanent() && entry.getExpireTimeMillis() <= weekFromNow;
+
+            assert expiringSoon.contains(entry) == expected : "Ban " + entry + " should " + (expected ? "" : "not ") + "expire within a week";
+        }
+
+        for (int i = 1; i < expiringSoon.size(); i++) {
+            assert expiringSoon.get(i - 1).getExpireTimeMillis() <= expiringSoon.get(i).getExpireTimeMillis() : "Bans should be in the order they expire";
+        }
+
+        assert new ExpiryIndex(Collections.emptyList()).getActiveCount() == 0 : "Empty index should have no active bans";
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.test;
+
+import org.junit.Test;
+import rip.paragon.universalbanlist.util.LatencyHistogram;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @since October 17, 2026
+ * Tests that latencies are counted in the right buckets and percentiles are estimated within a bucket.
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record(-5L);
+        histogram.record(0L);
+        histogram.record(1024L);
+        histogram.record(1025L);
+        histogram.record(2048L);
+        histogram.record(Long.MAX_VALUE);
+
+        assert histogram.getBucketCount(0) == 3 : "Latencies up to 1024ns should be in the first bucket";
+        assert histogram.getBucketCount(1) == 2 : "Latencies up to 2048ns should be in the second bucket";
+        assert histogram.getBucketCount(LatencyHistogram.BUCKET_COUNT - 1) == 1 : "Huge latencies should be in the last bucket";
+        assert histogram.getCount() == 6 : "Every latency should be counted";
+
+        for (int i = 0; i < LatencyHistogram.BUCKET_COUNT - 1; i++) {
+            long upperBound = LatencyHistogram.getBucketUpperBound(i);
+            LatencyHistogram single = new LatencyHistogram();
+
+            single.record(upperBound);
+            single.record(upperBound + 1L);
+
+            assert single.getBucketCount(i) == 1 && single.getBucketCount(i + 1) == 1 : "Bucket " + i + " should end at " + upperBound + "ns";
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assert histogram.getPercentile(99.0D, TimeUnit.NANOSECONDS) == 0L : "An empty histogram should have no percentiles";
+
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+
+        long p50 = histogram.getPercentile(50.0D, TimeUnit.MICROSECONDS);
+        long p99 = histogram.getPercentile(99.0D, TimeUnit.MICROSECONDS);
+
+        assert p50 >= 500L && p50 <= 1000L : "p50 should be at most twice the real value, got " + p50;
+        assert p99 >= 990L && p99 <= 1000L : "p99 should be capped at the highest latency, got " + p99;
+        assert histogram.getMax(TimeUnit.MICROSECONDS) == 1000L : "The highest latency should be exact";
+        assert histogram.getSum(TimeUnit.MICROSECONDS) == 500_500L : "The sum should be exact";
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.test;
+
+import org.junit.Test;
+import rip.paragon.universalbanlist.util.LogThrottle;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @since October 17, 2026
+ * Tests that throttled messages are logged at most once per interval, with the amount skipped in between.
+ */
+public class LogThrottleTest {
+
+    @Test
+    public void testThrottling() {
+        LogThrottle throttle = new LogThrottle(1L, TimeUnit.MINUTES);
+
+        assert throttle.tryLog(1_000L) == 0L : "The first message should be logged";
+        assert throttle.tryLog(1_001L) == -1L : "A message right after should be skipped";
+        assert throttle.tryLog(60_999L) == -1L : "A message within the interval should be skipped";
+        assert throttle.tryLog(61_000L) == 2L : "A message after the interval should be logged with the skipped amount";
+        assert throttle.tryLog(200_000L) == 0L : "Nothing should have been skipped since the last message";
+    }
+
+}
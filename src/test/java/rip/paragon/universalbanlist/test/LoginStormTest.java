@@ -0,0 +1,539 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.test;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.Test;
+import rip.paragon.universalbanlist.ban.BanListEnvironment;
+import rip.paragon.universalbanlist.ban.BanListService;
+import rip.paragon.universalbanlist.ban.BanListSource;
+import rip.paragon.universalbanlist.ban.CacheMode;
+import rip.paragon.universalbanlist.ban.listener.BanLoginListener;
+import rip.paragon.universalbanlist.ban.listener.FailurePolicy;
+import rip.paragon.universalbanlist.ban.message.KickMessages;
+import rip.paragon.universalbanlist.util.BoundedExecutor;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.Logger;
+
+/**
+ * @since October 17, 2026
+ * Load tests logins against a local stand-in for the ban list's server, so no network is needed.
+ *
+ * Thousands of players log in at once through {@link BanLoginListener}, and the throughput, latency percentiles,
+ * requests made to the server and whether exactly the banned players were kicked are reported for each scenario.
+ * The size of the test can be changed with the ubl.loadTest.logins, ubl.loadTest.threads, ubl.loadTest.bans and
+ * ubl.loadTest.latency (in milliseconds) system properties, like -Dubl.loadTest.logins=100000.
+ */
+public class LoginStormTest {
+
+    /* The amount of logins in each scenario */
+    private static final int LOGINS = Integer.getInteger("ubl.loadTest.logins", 2000);
+
+    /* The amount of players logging in at the same time */
+    private static final int THREADS = Integer.getInteger("ubl.loadTest.threads", 64);
+
+    /* The amount of bans on the generated ban list */
+    private static final int BANS = Integer.getInteger("ubl.loadTest.bans", 5000);
+
+    /* The time the server takes to respond, in milliseconds */
+    private static final long LATENCY = Long.getLong("ubl.loadTest.latency", 5L);
+
+    private static final String[] MONTHS = {
+            "January", "February", "March", "April", "May", "June",
+            "July", "August", "September", "October", "November", "December"
+    };
+
+    @Test
+    public void testLazyLoginStorm() throws Exception {
+        GeneratedBanList banList = generateBanList(new Random(0x1061L), BANS);
+        LoadTestEnvironment environment = new LoadTestEnvironment(CacheMode.NONE, 0L);
+
+        try (StubBanListServer server = new StubBanListServer(banList.data)) {
+            server.setLatency(LATENCY);
+            setUp(environment, server);
+
+            StormResult result = storm(environment, banList, LOGINS, THREADS);
+            report("Lazy lookups, no minimum interval", result, server);
+
+            // Every lookup made while a download is in progress shares it, and the ban list is only sent once
+            assert server.getRequestCount() <= LOGINS : "There shouldn't be more requests than logins";
+            assert server.getOkCount() == 1 : "The unchanged ban list should only be downloaded once";
+            assertCorrect(result);
+        } finally {
+            environment.close();
+        }
+    }
+
+    @Test
+    public void testMinimumIntervalLoginStorm() throws Exception {
+        GeneratedBanList banList = generateBanList(new Random(0x1062L), BANS);
+        LoadTestEnvironment environment = new LoadTestEnvironment(CacheMode.NONE, TimeUnit.MINUTES.toMillis(1L));
+
+        try (StubBanListServer server = new StubBanListServer(banList.data)) {
+            server.setLatency(LATENCY);
+            setUp(environment, server);
+
+            StormResult result = storm(environment, banList, LOGINS, THREADS);
+            report("Lazy lookups, 60 second minimum interval", result, server);
+
+            assert server.getRequestCount() == 1 : "The server should only be contacted once within the minimum interval";
+            assertCorrect(result);
+        } finally {
+            environment.close();
+        }
+    }
+
+    @Test
+    public void testSnapshotLoginStorm() throws Exception {
+        GeneratedBanList banList = generateBanList(new Random(0x1063L), BANS);
+        LoadTestEnvironment environment = new LoadTestEnvironment(CacheMode.SNAPSHOT, 0L);
+
+        try (StubBanListServer server = new StubBanListServer(banList.data)) {
+            server.setLatency(LATENCY);
+            setUp(environment, server);
+            BanListService.INSTANCE.refreshSnapshot().get();
+            server.resetCounts();
+
+            StormResult result = storm(environment, banList, LOGINS, THREADS);
+            report("Snapshot", result, server);
+
+            assert server.getRequestCount() == 0 : "Logins shouldn't contact the server in snapshot mode";
+            assertCorrect(result);
+        } finally {
+            environment.close();
+        }
+    }
+
+    @Test
+    public void testRateLimitedLoginStorm() throws Exception {
+        GeneratedBanList banList = generateBanList(new Random(0x1064L), BANS);
+        LoadTestEnvironment environment = new LoadTestEnvironment(CacheMode.NONE, 0L);
+
+        try (StubBanListServer server = new StubBanListServer(banList.data)) {
+            server.setLatency(LATENCY);
+            setUp(environment, server);
+
+            // Download the ban list once, then start rate limiting every request
+            storm(environment, banList, 1, 1);
+            server.setErrorCode(429);
+            server.setErrorRate(1.0D);
+            server.setRetryAfter(120L);
+            server.resetCounts();
+
+            // The first login after that is rejected, so the server isn't contacted again for 2 minutes
+            StormResult first = storm(environment, banList, 1, 1);
+
+            assert server.getErrorCount() == 1 : "The rate limited request should be counted";
+            assertCorrect(first);
+
+            StormResult result = storm(environment, banList, LOGINS, THREADS);
+            report("Lazy lookups, rate limited by the server", result, server);
+
+            assert server.getRequestCount() == 1 : "The server shouldn't be contacted again until Retry-After has passed";
+            assertCorrect(result);
+        } finally {
+            environment.close();
+        }
+    }
+
+    /**
+     * Points the ban list service at the stand-in server, with none of the state from previous scenarios.
+     */
+    private static void setUp(@NotNull LoadTestEnvironment environment, @NotNull StubBanListServer server) throws Exception {
+        BanListService.INSTANCE.setEnvironment(environment);
+        BanListService.INSTANCE.setSources(Collections.singletonList(new BanListSource("loadtest", server.getURL(), 300L, 0)));
+    }
+
+    /**
+     * Logs players in from several threads at once, in the same order every time.
+     * @param environment The environment to check logins with
+     * @param banList The ban list the players are from
+     * @param logins The amount of logins
+     * @param threads The amount of players logging in at the same time
+     * @return The result of every login
+     */
+    private static @NotNull StormResult storm(@NotNull LoadTestEnvironment environment, @NotNull GeneratedBanList banList, int logins, int threads) throws Exception {
+        BanLoginListener listener = new BanLoginListener(environment);
+        Method handler = BanLoginListener.class.getDeclaredMethod("handleLogin", AsyncPlayerPreLoginEvent.class);
+        handler.setAccessible(true);
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(logins);
+        long[] latencies = new long[logins];
+        boolean[] banned = new boolean[logins];
+        boolean[] kicked = new boolean[logins];
+        Random random = new Random(logins);
+
+        for (int i = 0; i < logins; i++) {
+            int index = i;
+            UUID player = banList.players.get(random.nextInt(banList.players.size()));
+
+            banned[index] = banList.bannedPlayers.contains(player);
+            futures.add(pool.submit(() -> {
+                start.await();
+
+                AsyncPlayerPreLoginEvent event = new AsyncPlayerPreLoginEvent("Player" + index, InetAddress.getLoopbackAddress(), player);
+                long loginStart = System.nanoTime();
+
+                // The same way the server calls the event handler
+                try {
+                    handler.invoke(listener, event);
+                } catch (InvocationTargetException e) {
+                    throw new ExecutionException(e.getCause());
+                }
+
+                latencies[index] = System.nanoTime() - loginStart;
+                kicked[index] = event.getLoginResult() == AsyncPlayerPreLoginEvent.Result.KICK_BANNED;
+
+                return null;
+            }));
+        }
+
+        long stormStart = System.nanoTime();
+        start.countDown();
+
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        long duration = System.nanoTime() - stormStart;
+
+        return new StormResult(listener, latencies, banned, kicked, duration, threads);
+    }
+
+    private static void report(@NotNull String scenario, @NotNull StormResult result, @NotNull StubBanListServer server) {
+        long[] sorted = result.latencies.clone();
+        Arrays.sort(sorted);
+
+        System.out.println(String.format(
+                "%s: %d logins from %d threads in %.2fs (%.0f logins/s)%n" +
+                        "  Login latency: p50 %.2fms, p99 %.2fms, p99.9 %.2fms, max %.2fms%n" +
+                        "  Upstream: %s%n" +
+                        "  Correctness: %d of %d banned logins kicked, %d of %d other logins kicked, %d timeouts, %d failures",
+                scenario,
+                sorted.length,
+                result.threads,
+                result.duration / 1e9D,
+                sorted.length / (result.duration / 1e9D),
+                getPercentile(sorted, 50.0D) / 1e6D,
+                getPercentile(sorted, 99.0D) / 1e6D,
+                getPercentile(sorted, 99.9D) / 1e6D,
+                sorted[sorted.length - 1] / 1e6D,
+                server,
+                result.count(true, true),
+                result.count(true, true) + result.count(true, false),
+                result.count(false, true),
+                result.count(false, true) + result.count(false, false),
+                result.listener.getTimeoutCount(),
+                result.listener.getFailureCount()
+        ));
+    }
+
+    private static void assertCorrect(@NotNull StormResult result) {
+        assert result.count(true, false) == 0 : "Every banned player should be kicked";
+        assert result.count(false, true) == 0 : "Players who aren't banned shouldn't be kicked";
+        assert result.listener.getTimeoutCount() == 0 : "No login should time out";
+    }
+
+    private static long getPercentile(@NotNull long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(sorted.length * percentile / 100.0D);
+
+        return sorted[Math.min(sorted.length - 1, Math.max(0, rank - 1))];
+    }
+
+    /**
+     * Generates a ban list where some players are banned, some only have bans that have expired, and most have no bans.
+     * @param random The random number generator to use
+     * @param bans The amount of bans
+     * @return The ban list
+     */
+    private static @NotNull GeneratedBanList generateBanList(@NotNull Random random, int bans) {
+        StringBuilder builder = new StringBuilder("IGN,UUID,Reason,Date Banned,Length of Ban,Expiry Date,Case\r\n");
+        List<UUID> players = new ArrayList<>();
+        Set<UUID> bannedPlayers = new HashSet<>();
+
+        for (int i = 0; i < bans; i++) {
+            UUID player = new UUID(random.nextLong(), random.nextLong());
+            String banDate = String.format("\"%d %s, %d\"", 1 + random.nextInt(28), MONTHS[random.nextInt(12)], 2015 + random.nextInt(5));
+
+            players.add(player);
+
+            switch (random.nextInt(3)) {
+                case 0:
+                    builder.append(String.format("Player%d,%s,Hacking,%s,Permanent,Never,https://redd.it/%d\n", i, player, banDate, i));
+                    bannedPlayers.add(player);
+                    break;
+                case 1:
+                    builder.append(String.format("Player%d,%s,Griefing,%s,2 Months,\"1 %s, 2099\",https://redd.it/%d\n", i, player, banDate, MONTHS[random.nextInt(12)], i));
+                    bannedPlayers.add(player);
+                    break;
+                default:
+                    builder.append(String.format("Player%d,%s,Spamming,%s,1 Months,\"1 %s, 2020\",https://redd.it/%d\n", i, player, banDate, MONTHS[random.nextInt(12)], i));
+                    break;
+            }
+        }
+
+        // Most players logging in aren't on the ban list at all
+        for (int i = 0; i < bans * 4; i++) {
+            players.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+
+        return new GeneratedBanList(builder.toString().getBytes(StandardCharsets.UTF_8), players, bannedPlayers);
+    }
+
+    private static final class GeneratedBanList {
+
+        /* The ban list's CSV data */
+        final @NotNull byte[] data;
+
+        /* Every player who can log in, whether they're on the ban list or not */
+        final @NotNull List<@NotNull UUID> players;
+
+        /* The players with an active ban */
+        final @NotNull Set<@NotNull UUID> bannedPlayers;
+
+        GeneratedBanList(@NotNull byte[] data, @NotNull List<@NotNull UUID> players, @NotNull Set<@NotNull UUID> bannedPlayers) {
+            this.data = data;
+            this.players = players;
+            this.bannedPlayers = bannedPlayers;
+        }
+
+    }
+
+    private static final class StormResult {
+
+        /* The listener the logins went through */
+        final @NotNull BanLoginListener listener;
+
+        /* The time each login took, in nanoseconds */
+        final @NotNull long[] latencies;
+
+        /* Whether the player of each login is banned */
+        final @NotNull boolean[] banned;
+
+        /* Whether each login was kicked for being banned */
+        final @NotNull boolean[] kicked;
+
+        /* The time every login took together, in nanoseconds */
+        final long duration;
+
+        /* The amount of players logging in at the same time */
+        final int threads;
+
+        StormResult(@NotNull BanLoginListener listener, @NotNull long[] latencies, @NotNull boolean[] banned, @NotNull boolean[] kicked, long duration, int threads) {
+            this.listener = listener;
+            this.latencies = latencies;
+            this.banned = banned;
+            this.kicked = kicked;
+            this.duration = duration;
+            this.threads = threads;
+        }
+
+        int count(boolean banned, boolean kicked) {
+            int count = 0;
+
+            for (int i = 0; i < this.latencies.length; i++) {
+                if (this.banned[i] == banned && this.kicked[i] == kicked) {
+                    count++;
+                }
+            }
+
+            return count;
+        }
+
+    }
+
+    /**
+     * The ban list's environment for load tests, configured like the plugin's default configuration.
+     */
+    private static final class LoadTestEnvironment implements BanListEnvironment {
+
+        private final @NotNull Logger logger = Logger.getLogger("UniversalBanList Load Test");
+
+        private final @NotNull BoundedExecutor executor = new BoundedExecutor("UniversalBanList Load Test", 4, 256, BoundedExecutor.RejectionPolicy.ABORT);
+
+        private final @NotNull BoundedExecutor fetchExecutor = new BoundedExecutor("UniversalBanList Load Test Fetcher", 1, 1, BoundedExecutor.RejectionPolicy.ABORT);
+
+        private final @NotNull ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "UniversalBanList Load Test Scheduler");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        private final @NotNull KickMessages kickMessages;
+
+        private final @NotNull CacheMode cacheMode;
+
+        private final long minimumFetchInterval;
+
+        LoadTestEnvironment(@NotNull CacheMode cacheMode, long minimumFetchInterval) {
+            YamlConfiguration config = new YamlConfiguration();
+            config.set("kickMessages.permanent", Collections.singletonList("Banned: {reason}"));
+            config.set("kickMessages.temporary", Collections.singletonList("Banned until {expireDate}: {reason}"));
+            config.set("kickMessages.unavailable", Collections.singletonList("Bans couldn't be checked"));
+
+            this.kickMessages = KickMessages.compile(config);
+            this.cacheMode = cacheMode;
+            this.minimumFetchInterval = minimumFetchInterval;
+        }
+
+        void close() {
+            this.executor.shutdownNow();
+            this.fetchExecutor.shutdownNow();
+            this.scheduler.shutdownNow();
+        }
+
+        @Override
+        public @NotNull Logger getLogger() {
+            return this.logger;
+        }
+
+        @Override
+        public @NotNull File getDataFolder() {
+            return new File(System.getProperty("java.io.tmpdir"));
+        }
+
+        @Override
+        public void callEvent(@NotNull Event event) {
+            // Nothing listens to the ban list's events in load tests
+        }
+
+        @Override
+        public void runTaskLaterAsynchronously(@NotNull Runnable task, long delay) {
+            this.scheduler.schedule(task, delay, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public @Nullable Player getPlayer(@NotNull UUID uuid) {
+            // Nobody stays online in load tests
+            return null;
+        }
+
+        @Override
+        public @NotNull BoundedExecutor getExecutor() {
+            return this.executor;
+        }
+
+        @Override
+        public @NotNull BoundedExecutor getFetchExecutor() {
+            return this.fetchExecutor;
+        }
+
+        @Override
+        public @Nullable ForkJoinPool getParsePool() {
+            return null;
+        }
+
+        @Override
+        public int getParallelParseThreshold() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public @NotNull CacheMode getCacheMode() {
+            return this.cacheMode;
+        }
+
+        @Override
+        public boolean isConditionalRequests() {
+            return true;
+        }
+
+        @Override
+        public boolean isPersistSnapshot() {
+            return false;
+        }
+
+        @Override
+        public int getConnectTimeout() {
+            return 5000;
+        }
+
+        @Override
+        public int getReadTimeout() {
+            return 10000;
+        }
+
+        @Override
+        public long getMinimumFetchInterval() {
+            return this.minimumFetchInterval;
+        }
+
+        @Override
+        public long getInitialBackoff() {
+            return TimeUnit.SECONDS.toMillis(30L);
+        }
+
+        @Override
+        public long getMaxBackoff() {
+            return TimeUnit.MINUTES.toMillis(30L);
+        }
+
+        @Override
+        public double getRefreshJitter() {
+            return 0.1D;
+        }
+
+        @Override
+        public int getEnforcementBatchSize() {
+            return 50;
+        }
+
+        @Override
+        public long getLoginTimeout() {
+            return 10000L;
+        }
+
+        @Override
+        public @NotNull FailurePolicy getFailurePolicy() {
+            return FailurePolicy.OPEN;
+        }
+
+        @Override
+        public @NotNull KickMessages getKickMessages() {
+            return this.kickMessages;
+        }
+
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.test;
+
+import org.junit.Test;
+import rip.paragon.universalbanlist.ban.BanEntry;
+import rip.paragon.universalbanlist.ban.BanListParser;
+import rip.paragon.universalbanlist.ban.DecodeFailure;
+import rip.paragon.universalbanlist.ban.MalformedRowReport;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * @since October 17, 2026
+ * Tests that parsing a ban list in parallel has exactly the same result as parsing it on one thread.
+ */
+public class ParallelParseTest {
+
+    private static final String[] MONTHS = {
+            "January", "February", "March", "April", "May", "June",
+            "July", "August", "September", "October", "November", "December"
+    };
+
+    @Test
+    public void testParallelParsing() throws IOException {
+        assertSameAsSerial(generateBanList(new Random(0xC5AL), 20_000, false).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testStrayQuotes() throws IOException {
+        // Quotes inside unquoted fields are kept as they are, and must not make the rest of the ban list look quoted
+        assertSameAsSerial(generateBanList(new Random(0x0DDL), 20_000, true).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertSameAsSerial(byte[] data) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            BanListParser.Result serial = BanListParser.parseChunks(data, data.length, null, 1, BanEntry.DEFAULT_SOURCE);
+
+            assert serial.entries.size() > 15_000 : "Most of the generated bans should be parsed";
+            assert serial.report.getTotalFailures() > 0 : "Some of the generated bans should be malformed";
+
+            for (int chunkCount : new int[] { 2, 3, 8, 64, 1000 }) {
+                BanListParser.Result parallel = BanListParser.parseChunks(data, data.length, pool, chunkCount, BanEntry.DEFAULT_SOURCE);
+
+                assert parallel.entries.equals(serial.entries) : "Parsing in " + chunkCount + " chunks should have the same entries";
+                assertSameReport(serial.report, parallel.report, chunkCount);
+            }
+
+            // Splitting without a pool parses every chunk on this thread
+            BanListParser.Result chunked = BanListParser.parseChunks(data, data.length, null, 16, BanEntry.DEFAULT_SOURCE);
+
+            assert chunked.entries.equals(serial.entries) : "Parsing chunks on one thread should have the same entries";
+            assertSameReport(serial.report, chunked.report, 16);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static void assertSameReport(MalformedRowReport expected, MalformedRowReport actual, int chunkCount) {
+        assert actual.getRowsRead() == expected.getRowsRead() : "Parsing in " + chunkCount + " chunks should read the same amount of rows";
+
+        for (DecodeFailure failure : DecodeFailure.values()) {
+            assert actual.getFailureCount(failure) == expected.getFailureCount(failure) : "Parsing in " + chunkCount + " chunks should have the same failures";
+        }
+
+        assert actual.getSamples().size() == expected.getSamples().size() : "Parsing in " + chunkCount + " chunks should have the same samples";
+
+        for (int i = 0; i < expected.getSamples().size(); i++) {
+            MalformedRowReport.Sample expectedSample = expected.getSamples().get(i);
+            MalformedRowReport.Sample actualSample = actual.getSamples().get(i);
+
+            assert actualSample.rowNumber == expectedSample.rowNumber && actualSample.row.equals(expectedSample.row)
+                    : "Sample " + i + " should be the same when parsing in " + chunkCount + " chunks";
+        }
+    }
+
+    /**
+     * Generates a ban list with quoted commas, quoted line breaks, escaped quotes, empty lines and malformed rows,
+     * and optionally quotes inside unquoted fields.
+     */
+    private static String generateBanList(Random random, int rows, boolean strayQuotes) {
+        StringBuilder builder = new StringBuilder("IGN,UUID,Reason,Date Banned,Length of Ban,Expiry Date,Case\r\n");
+
+        for (int i = 0; i < rows; i++) {
+            String uuid = new UUID(random.nextLong(), random.nextLong()).toString();
+            String banDate = String.format("\"%d %s, %d\"", 1 + random.nextInt(28), MONTHS[random.nextInt(12)], 2015 + random.nextInt(10));
+            String reason;
+
+            switch (random.nextInt(strayQuotes ? 5 : 4)) {
+                case 4:
+                    reason = "Said \"hello";
+                    break;
+                case 0:
+                    reason = "\"Griefing, then lying about it\"";
+                    break;
+                case 1:
+                    reason = "\"Said \"\"hello\"\"\nover two lines\"";
+                    break;
+                default:
+                    reason = "Hacking";
+                    break;
+            }
+
+            // Roughly 1 in 50 rows are malformed
+            if (random.nextInt(50) == 0) {
+                uuid = "not-a-uuid";
+            }
+
+            if (random.nextBoolean()) {
+                builder.append(String.format("Player%d,%s,%s,%s,Permanent,Never,https://redd.it/%d", i, uuid, reason, banDate, i));
+            } else {
+                builder.append(String.format(
+                        "Player%d,%s,%s,%s,%d Months,\"%d %s, %d\",https://redd.it/%d",
+                        i, uuid, reason, banDate, 1 + random.nextInt(24), 1 + random.nextInt(28), MONTHS[random.nextInt(12)], 2020 + random.nextInt(10), i
+                ));
+            }
+
+            builder.append(random.nextInt(100) == 0 ? "\n\n" : "\n");
+        }
+
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * @since October 17, 2026
+ * A local stand-in for a ban list's HTTP server, so fetching can be tested without a network.
+ * Its latency, errors and support for conditional requests and compression can be changed while it's running,
+ * and it counts every request and connection it receives.
+ */
+final class StubBanListServer implements Closeable {
+
+    /* The path the ban list is served at */
+    private static final String PATH = "/bans.csv";
+
+    /* The HTTP server */
+    private final @NotNull HttpServer server;
+
+    /* The threads handling requests */
+    private final @NotNull ExecutorService executor;
+
+    /* The version of the ban list, used as its ETag */
+    private final @NotNull AtomicInteger version = new AtomicInteger();
+
+    /* The ban list's CSV data */
+    private volatile @NotNull byte[] body;
+
+    /* The ban list's CSV data, compressed with gzip */
+    private volatile @NotNull byte[] compressedBody;
+
+    /* The time to wait before responding, in milliseconds */
+    private volatile long latency;
+
+    /* The fraction of requests that fail, from 0 to 1 */
+    private volatile double errorRate;
+
+    /* The response code of failed requests */
+    private volatile int errorCode = 503;
+
+    /* The Retry-After header of failed requests, in seconds, or -1 to not send one */
+    private volatile long retryAfter = -1L;
+
+    /* Whether conditional requests are answered with 304 Not Modified while the ban list is unchanged */
+    private volatile boolean notModifiedEnabled = true;
+
+    /* Whether the ban list is sent compressed to clients that accept gzip */
+    private volatile boolean gzipEnabled = true;
+
+    /* The amount of requests received */
+    private final @NotNull LongAdder requestCount = new LongAdder();
+
+    /* The amount of 200 OK responses */
+    private final @NotNull LongAdder okCount = new LongAdder();
+
+    /* The amount of 304 Not Modified responses */
+    private final @NotNull LongAdder notModifiedCount = new LongAdder();
+
+    /* The amount of failed requests */
+    private final @NotNull LongAdder errorCount = new LongAdder();
+
+    /* The amount of body bytes sent */
+    private final @NotNull LongAdder bytesSent = new LongAdder();
+
+    /* The address of every client connection, to count how many connections were opened */
+    private final @NotNull Set<@NotNull InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Starts serving a ban list on a random local port.
+     * @param body The ban list's CSV data
+     * @throws IOException If the server couldn't be started.
+     */
+    StubBanListServer(@NotNull byte[] body) throws IOException {
+        this.body = body;
+        this.compressedBody = compress(body);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 256);
+        this.executor = Executors.newFixedThreadPool(32, task -> {
+            Thread thread = new Thread(task, "Stub Ban List Server");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        this.server.createContext(PATH, this::handle);
+        this.server.setExecutor(this.executor);
+        this.server.start();
+    }
+
+    private void handle(@NotNull HttpExchange exchange) throws IOException {
+        try {
+            this.requestCount.increment();
+            this.connections.add(exchange.getRemoteAddress());
+
+            // Nothing is done with the request's body, but it has to be read for the connection to be reused
+            try (InputStream input = exchange.getRequestBody()) {
+                while (input.read() != -1) {
+                    // Skip it
+                }
+            }
+
+            long latency = this.latency;
+
+            if (latency > 0L) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(latency);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            if (this.errorRate > 0.0D && ThreadLocalRandom.current().nextDouble() < this.errorRate) {
+                this.errorCount.increment();
+
+                if (this.retryAfter != -1L) {
+                    exchange.getResponseHeaders().set("Retry-After", Long.toString(this.retryAfter));
+                }
+
+                exchange.sendResponseHeaders(this.errorCode, -1L);
+                return;
+            }
+
+            String entityTag = "\"v" + this.version.get() + "\"";
+            exchange.getResponseHeaders().set("ETag", entityTag);
+
+            if (this.notModifiedEnabled && entityTag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                this.notModifiedCount.increment();
+                exchange.sendResponseHeaders(304, -1L);
+                return;
+            }
+
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            byte[] body = this.body;
+
+            if (this.gzipEnabled && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                body = this.compressedBody;
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            }
+
+            this.okCount.increment();
+            this.bytesSent.add(body.length);
+            exchange.getResponseHeaders().set("Content-Type", "text/csv; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Gets the URL the ban list is served at.
+     * @return The URL
+     * @throws MalformedURLException If the server's address can't be made into a URL.
+     */
+    @NotNull URL getURL() throws MalformedURLException {
+        return new URL("http", this.server.getAddress().getHostString(), this.server.getAddress().getPort(), PATH);
+    }
+
+    /**
+     * Replaces the ban list, so conditional requests for the previous one get the new one.
+     * @param body The new ban list's CSV data
+     */
+    void setBody(@NotNull byte[] body) {
+        this.compressedBody = compress(body);
+        this.body = body;
+        this.version.incrementAndGet();
+    }
+
+    private static @NotNull byte[] compress(@NotNull byte[] data) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return output.toByteArray();
+    }
+
+    void setLatency(long latency) {
+        this.latency = latency;
+    }
+
+    void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    void setErrorCode(int errorCode) {
+        this.errorCode = errorCode;
+    }
+
+    void setRetryAfter(long retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    void setNotModifiedEnabled(boolean notModifiedEnabled) {
+        this.notModifiedEnabled = notModifiedEnabled;
+    }
+
+    void setGzipEnabled(boolean gzipEnabled) {
+        this.gzipEnabled = gzipEnabled;
+    }
+
+    /**
+     * Resets every count to 0.
+     */
+    void resetCounts() {
+        this.requestCount.reset();
+        this.okCount.reset();
+        this.notModifiedCount.reset();
+        this.errorCount.reset();
+        this.bytesSent.reset();
+        this.connections.clear();
+    }
+
+    long getRequestCount() {
+        return this.requestCount.sum();
+    }
+
+    long getOkCount() {
+        return this.okCount.sum();
+    }
+
+    long getNotModifiedCount() {
+        return this.notModifiedCount.sum();
+    }
+
+    long getErrorCount() {
+        return this.errorCount.sum();
+    }
+
+    long getBytesSent() {
+        return this.bytesSent.sum();
+    }
+
+    int getConnectionCount() {
+        return this.connections.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "%d requests over %d connections (%d OK, %d not modified, %d failed), %d bytes sent",
+                this.getRequestCount(),
+                this.getConnectionCount(),
+                this.getOkCount(),
+                this.getNotModifiedCount(),
+                this.getErrorCount(),
+                this.getBytesSent()
+        );
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+        this.executor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.test;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.Period;
+import org.joda.time.format.DateTimeFormatter;
+import org.junit.Test;
+import rip.paragon.universalbanlist.util.TimeFormatters;
+import rip.paragon.universalbanlist.util.TimeParsers;
+
+import java.time.Month;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * @since October 17, 2026
+ * Tests parsing with {@link TimeParsers}, and compares the results to {@link TimeFormatters}.
+ */
+public class TimeParserTest {
+
+    /* The same formatter as TimeFormatters#DATE_FORMATTER, but with English month names regardless of the default locale */
+    private static final DateTimeFormatter ENGLISH_DATE_FORMATTER = TimeFormatters.DATE_FORMATTER.withLocale(Locale.ENGLISH);
+
+    private static final String[] MONTHS = {
+            "January", "February", "March", "April", "May", "June",
+            "July", "August", "September", "October", "November", "December",
+            "Jan", "sep", "DECEMBER", "Sept", "Janu", "Foo"
+    };
+
+    private static final String[] UNITS = {
+            "Year", "Years", "Month", "Months", "Week", "Weeks", "Minute", "Minutes", "Second", "Seconds",
+            "years", "MONTHS", "Day", "Hours", "Yearss"
+    };
+
+    @Test
+    public void testDateParsing() {
+        // A date in the past
+        DateTime date = new DateTime(TimeParsers.parseDate("12 September, 2018"));
+
+        assert date.getDayOfMonth() == 12 && date.getMonthOfYear() == Month.SEPTEMBER.getValue() && date.getYear() == 2018 : String.format(
+                "Day should be 12, month should be September (%d), year should be 2018, not %d, %d, %d",
+                Month.SEPTEMBER.getValue(),
+                date.getDayOfMonth(),
+                date.getMonthOfYear(),
+                date.getYear()
+        );
+
+        // A date in the future...we hope!
+        date = new DateTime(TimeParsers.parseDate("5 January, 2049"));
+
+        assert date.getDayOfMonth() == 5 && date.getMonthOfYear() == Month.JANUARY.getValue() && date.getYear() == 2049 : String.format(
+                "Day should be 5, month should be January (%d), year should be 2049, not %d, %d, %d",
+                Month.JANUARY.getValue(),
+                date.getDayOfMonth(),
+                date.getMonthOfYear(),
+                date.getYear()
+        );
+
+        // Malformed dates - these exist on UBL
+        assert TimeParsers.parseDate("31 February, 2020") == TimeParsers.INVALID_DATE : "February 31st shouldn't exist";
+        assert TimeParsers.parseDate("5 January 2049") == TimeParsers.INVALID_DATE : "Missing comma should be invalid";
+        assert TimeParsers.parseDate("") == TimeParsers.INVALID_DATE : "Empty date should be invalid";
+    }
+
+    @Test
+    public void testPeriodParsing() {
+        // 5 years - something uncommon on UBL
+        long period = TimeParsers.parsePeriod("5 Years");
+
+        assert TimeParsers.getYears(period) == 5 : "Years should be 5, not " + TimeParsers.getYears(period);
+
+        // 5 years, 2 months - also uncommon
+        period = TimeParsers.parsePeriod("5 Years, 2 Months");
+
+        assert TimeParsers.getYears(period) == 5 && TimeParsers.getMonths(period) == 2 : String.format(
+                "Years and months should be 5 and 2, not %d and %d",
+                TimeParsers.getYears(period),
+                TimeParsers.getMonths(period)
+        );
+
+        // Something common on UBL
+        period = TimeParsers.parsePeriod("71 Months");
+
+        assert TimeParsers.getMonths(period) == 71 : "Months should be 71, not " + TimeParsers.getMonths(period);
+
+        period = TimeParsers.parsePeriod("1 Month");
+
+        assert TimeParsers.getMonths(period) == 1 : "Months should be 1, not " + TimeParsers.getMonths(period);
+
+        period = TimeParsers.parsePeriod("1 Months");
+
+        assert TimeParsers.getMonths(period) == 1 : "Months should be 1, not " + TimeParsers.getMonths(period);
+
+        period = TimeParsers.parsePeriod("3 Weeks");
+
+        assert TimeParsers.getWeeks(period) == 3 : "Weeks should be 3, not " + TimeParsers.getWeeks(period);
+
+        period = TimeParsers.parsePeriod("2 Minutes");
+
+        assert TimeParsers.getMinutes(period) == 2 : "Minutes should be 2, not " + TimeParsers.getMinutes(period);
+
+        period = TimeParsers.parsePeriod("2 Seconds");
+
+        assert TimeParsers.getSeconds(period) == 2 : "Seconds should be 2, not " + TimeParsers.getSeconds(period);
+
+        period = TimeParsers.parsePeriod("2 Years, 10 Months, 5 Weeks, 1 Second");
+
+        assert TimeParsers.getYears(period) == 2 && TimeParsers.getMonths(period) == 10 && TimeParsers.getWeeks(period) == 5 && TimeParsers.getSeconds(period) == 1;
+
+        // Units in the wrong order
+        assert TimeParsers.parsePeriod("2 Months, 5 Years") == TimeParsers.INVALID_PERIOD : "Units in the wrong order should be invalid";
+    }
+
+    @Test
+    public void testDateParsingMatchesJoda() {
+        Random random = new Random(0x55424CL);
+
+        for (DateTimeZone zone : new DateTimeZone[] { DateTimeZone.UTC, DateTimeZone.forID("America/New_York"), DateTimeZone.forID("Australia/Lord_Howe") }) {
+            DateTimeFormatter formatter = ENGLISH_DATE_FORMATTER.withZone(zone);
+
+            for (int i = 0; i < 20_000; i++) {
+                String text = random.nextInt(5) == 0 ? mutate(random, randomDate(random)) : randomDate(random);
+                long expected = parseWithJoda(formatter, text);
+                long actual = TimeParsers.parseDate(text, 0, text.length(), zone);
+
+                // Joda accepts a few things the ban list never uses, like signed and 5 digit years
+                assert actual == expected || (actual == TimeParsers.INVALID_DATE && isOutsideSupportedDates(text)) : String.format(
+                        "\"%s\" in %s should parse to %d, not %d",
+                        text,
+                        zone,
+                        expected,
+                        actual
+                );
+            }
+        }
+    }
+
+    @Test
+    public void testPeriodParsingMatchesJoda() {
+        Random random = new Random(0x55424CL);
+
+        for (int i = 0; i < 20_000; i++) {
+            String text = random.nextInt(5) == 0 ? mutate(random, randomPeriod(random)) : randomPeriod(random);
+            Period expected;
+
+            try {
+                expected = TimeFormatters.DURATION_FORMATTER.parsePeriod(text);
+            } catch (IllegalArgumentException e) {
+                expected = null;
+            }
+
+            long actual = TimeParsers.parsePeriod(text);
+
+            if (actual == TimeParsers.INVALID_PERIOD) {
+                // Joda accepts signs and amounts larger than the ban list ever uses
+                assert expected == null || text.indexOf('-') != -1 || text.indexOf('+') != -1 || hasLargeAmount(expected) : String.format(
+                        "\"%s\" should parse to %s",
+                        text,
+                        expected
+                );
+            } else {
+                assert TimeParsers.toPeriod(actual).equals(expected) : String.format(
+                        "\"%s\" should parse to %s, not %s",
+                        text,
+                        expected,
+                        TimeParsers.toPeriod(actual)
+                );
+            }
+        }
+    }
+
+    private static long parseWithJoda(DateTimeFormatter formatter, String text) {
+        try {
+            return formatter.parseMillis(text);
+        } catch (IllegalArgumentException e) {
+            return TimeParsers.INVALID_DATE;
+        }
+    }
+
+    private static boolean isOutsideSupportedDates(String text) {
+        String year = text.substring(text.lastIndexOf(' ') + 1);
+
+        return year.startsWith("+") || year.startsWith("-") || year.length() > 9 || Integer.parseInt(year) > TimeParsers.MAX_YEAR;
+    }
+
+    private static boolean hasLargeAmount(Period period) {
+        for (int value : period.getValues()) {
+            if (value > TimeParsers.MAX_PERIOD_FIELD) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static String randomDate(Random random) {
+        int day = random.nextInt(33);
+        String year = String.valueOf(random.nextInt(4) == 0 ? random.nextInt(20_000) : 1990 + random.nextInt(70));
+
+        return (random.nextBoolean() && day < 10 ? "0" : "") + day + " " + MONTHS[random.nextInt(MONTHS.length)] + ", " + year;
+    }
+
+    private static String randomPeriod(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int fields = random.nextInt(4);
+
+        for (int i = 0; i < fields; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+
+            builder.append(random.nextInt(8) == 0 ? random.nextInt(10_000) : random.nextInt(100))
+                    .append(' ')
+                    .append(UNITS[random.nextInt(UNITS.length)]);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Randomly inserts, removes or replaces a character to create input that's likely to be malformed.
+     */
+    private static String mutate(Random random, String text) {
+        String characters = " ,-+09aSs";
+        int index = text.isEmpty() ? 0 : random.nextInt(text.length());
+        char c = characters.charAt(random.nextInt(characters.length()));
+
+        switch (random.nextInt(3)) {
+            case 0:
+                return text.substring(0, index) + c + text.substring(index);
+            case 1:
+                return text.isEmpty() ? text : text.substring(0, index) + text.substring(index + 1);
+            default:
+                return text.isEmpty() ? text : text.substring(0, index) + c + text.substring(index + 1);
+        }
+    }
+
+}
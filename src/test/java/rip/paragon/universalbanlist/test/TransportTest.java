@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.test;
+
+import org.junit.Test;
+import rip.paragon.universalbanlist.ban.BanEntry;
+import rip.paragon.universalbanlist.ban.BanListParser;
+import rip.paragon.universalbanlist.ban.BanListTransport;
+import rip.paragon.universalbanlist.ban.URLConnectionTransport;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * @since October 17, 2026
+ * Tests that the default transport decompresses ban lists, reads large ban lists whole, reuses its connections and reads ban lists as UTF-8.
+ */
+public class TransportTest {
+
+    /* How long to wait for the stub server, in milliseconds */
+    private static final int TIMEOUT = 5000;
+
+    private final BanListTransport transport = new URLConnectionTransport();
+
+    @Test
+    public void testCompression() throws IOException {
+        byte[] banList = generateBanList(2000);
+
+        try (StubBanListServer server = new StubBanListServer(banList)) {
+            BanListTransport.Response compressed = this.transport.fetch(server.getURL(), null, null, TIMEOUT, TIMEOUT);
+
+            assert compressed.code == 200 : "The ban list should be sent";
+            assert compressed.compressed : "The ban list should be sent compressed";
+            assert Arrays.equals(compressed.body, banList) : "The ban list should be decompressed";
+            assert compressed.bytesReceived == server.getBytesSent() : "The compressed bytes should be counted";
+            assert compressed.bytesReceived * 4L < banList.length : "The ban list should be much smaller compressed";
+
+            server.setGzipEnabled(false);
+            server.resetCounts();
+
+            BanListTransport.Response uncompressed = this.transport.fetch(server.getURL(), null, null, TIMEOUT, TIMEOUT);
+
+            assert !uncompressed.compressed : "The ban list shouldn't be compressed if the server doesn't support it";
+            assert Arrays.equals(uncompressed.body, banList) : "The ban list should be read as is";
+            assert uncompressed.bytesReceived == banList.length : "Every byte should be counted";
+        }
+    }
+
+    @Test
+    public void testLargeBanList() throws IOException {
+        byte[] banList = generateBanList(50000);
+
+        assert banList.length > 1024 * 1024 : "The ban list should be larger than the initial buffer";
+
+        try (StubBanListServer server = new StubBanListServer(banList)) {
+            server.setGzipEnabled(false);
+
+            BanListTransport.Response response = this.transport.fetch(server.getURL(), null, null, TIMEOUT, TIMEOUT);
+
+            assert Arrays.equals(response.body, banList) : "A ban list larger than the initial buffer should be read whole";
+        }
+    }
+
+    @Test
+    public void testConnectionReuse() throws IOException {
+        try (StubBanListServer server = new StubBanListServer(generateBanList(100))) {
+            URL url = server.getURL();
+            String entityTag = this.transport.fetch(url, null, null, TIMEOUT, TIMEOUT).entityTag;
+
+            assert entityTag != null : "The ETag should be returned";
+
+            for (int i = 0; i < 10; i++) {
+                this.transport.fetch(url, null, null, TIMEOUT, TIMEOUT);
+            }
+
+            BanListTransport.Response notModified = this.transport.fetch(url, entityTag, null, TIMEOUT, TIMEOUT);
+
+            assert notModified.code == 304 : "An unchanged ban list shouldn't be sent again";
+            assert notModified.body.length == 0 : "A 304 Not Modified response has no ban list";
+
+            server.setErrorRate(1.0D);
+            server.setErrorCode(429);
+            server.setRetryAfter(30L);
+
+            BanListTransport.Response error = this.transport.fetch(url, null, null, TIMEOUT, TIMEOUT);
+
+            assert error.code == 429 : "Errors should be returned, not thrown";
+            assert "30".equals(error.retryAfter) : "The Retry-After header should be returned";
+
+            server.setErrorRate(0.0D);
+            this.transport.fetch(url, null, null, TIMEOUT, TIMEOUT);
+
+            assert server.getRequestCount() == 14L : "Every fetch should send one request";
+            assert server.getConnectionCount() == 1 : "Every request should reuse the same connection, but " + server;
+        }
+    }
+
+    @Test
+    public void testEncoding() throws IOException {
+        String reason = "Griefing \u2013 d\u00e9truit le spawn, \u7834\u58ca";
+        UUID player = UUID.randomUUID();
+        byte[] banList = String.format(
+                "IGN,UUID,Reason,Date Banned,Length of Ban,Expiry Date,Case\r\nPlayer,%s,\"%s\",\"1 January, 2020\",Permanent,Never,https://redd.it/1\r\n",
+                player,
+                reason
+        ).getBytes(StandardCharsets.UTF_8);
+
+        try (StubBanListServer server = new StubBanListServer(banList)) {
+            byte[] body = this.transport.fetch(server.getURL(), null, null, TIMEOUT, TIMEOUT).body;
+            BanListParser.Result result = BanListParser.parseChunks(body, body.length, null, 1, BanEntry.DEFAULT_SOURCE);
+
+            assert result.entries.size() == 1 : "The ban should be parsed";
+            assert result.entries.get(0).reason.equals(reason) : "The reason should be read as UTF-8, not " + result.entries.get(0).reason;
+        }
+    }
+
+    private static byte[] generateBanList(int bans) {
+        StringBuilder builder = new StringBuilder("IGN,UUID,Reason,Date Banned,Length of Ban,Expiry Date,Case\r\n");
+
+        for (int i = 0; i < bans; i++) {
+            builder.append(String.format(
+                    "Player%d,%s,Hacking,\"1 January, 2020\",Permanent,Never,https://redd.it/%d\r\n",
+                    i,
+                    new UUID(i, i),
+                    i
+            ));
+        }
+
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.test;
+
+import org.junit.Test;
+import rip.paragon.universalbanlist.util.UUIDBloomFilter;
+
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * @since October 17, 2026
+ * Tests the {@link UUIDBloomFilter Bloom filter} used to skip players without bans.
+ */
+public class UUIDBloomFilterTest {
+
+    @Test
+    public void testBloomFilter() {
+        Random random = new Random(0xB100FL);
+        UUID[] added = new UUID[50_000];
+        UUIDBloomFilter filter = new UUIDBloomFilter(added.length, 0.01D);
+
+        for (int i = 0; i < added.length; i++) {
+            added[i] = new UUID(random.nextLong(), random.nextLong());
+            filter.add(added[i].getMostSignificantBits(), added[i].getLeastSignificantBits());
+        }
+
+        // There are never false negatives
+        for (UUID uuid : added) {
+            assert filter.mightContain(uuid) : "Added UUID " + uuid + " should be in the filter";
+        }
+
+        int falsePositives = 0;
+        int checks = 100_000;
+
+        for (int i = 0; i < checks; i++) {
+            if (filter.mightContain(new UUID(random.nextLong(), random.nextLong()))) {
+                falsePositives++;
+            }
+        }
+
+        double rate = (double) falsePositives / checks;
+
+        assert rate < 0.02D : "False positive rate " + rate + " should be close to 1%";
+        assert Math.abs(rate - filter.getFalsePositiveRate()) < 0.01D : "Reported false positive rate should be accurate";
+
+        // An empty filter contains nothing
+        assert !new UUIDBloomFilter(0, 0.01D).mightContain(added[0]) : "Empty filter shouldn't contain anything";
+    }
+
+}
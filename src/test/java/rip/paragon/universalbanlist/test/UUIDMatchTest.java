@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) Paragon Games 2020. All rights reserved.
+ *
+ * MIT License
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package rip.paragon.universalbanlist.test;
+
+import org.junit.Test;
+import rip.paragon.universalbanlist.util.UUIDs;
+
+import java.util.UUID;
+
+/**
+ * @since October 17, 2026
+ * Tests matching {@link UUID UUIDs} against text.
+ */
+public class UUIDMatchTest {
+
+    @Test
+    public void testUUIDMatching() {
+        UUID uuid = UUID.fromString("91ce6853-830a-4a7f-bce3-25858cd79cc2");
+
+        // The canonical form
+        assert UUIDs.matches("91ce6853-830a-4a7f-bce3-25858cd79cc2", uuid) : "Canonical UUID should match";
+
+        // Upper case - UUID#fromString accepts this too
+        assert UUIDs.matches("91CE6853-830A-4A7F-BCE3-25858CD79CC2", uuid) : "Upper case UUID should match";
+
+        // One digit off
+        assert !UUIDs.matches("91ce6853-830a-4a7f-bce3-25858cd79cc3", uuid) : "Different UUID shouldn't match";
+
+        // Malformed - happens on the UBL spreadsheet
+        assert !UUIDs.matches("91ce6853-830a-4a7f-bce3-25858cd79ccz", uuid) : "Malformed UUID shouldn't match";
+        assert !UUIDs.matches("", uuid) : "Empty text shouldn't match";
+
+        // Non-canonical forms are compared the same way UUID#fromString would parse them
+        assert UUIDs.matches("1-2-3-4-5", new UUID(0x0000000100020003L, 0x0004000000000005L)) : "Short UUID should match";
+        assert UUIDs.parse("1-2-3-4-5").equals(UUID.fromString("1-2-3-4-5")) : "Short UUID should parse like UUID#fromString";
+        assert UUIDs.parse("91CE6853-830A-4A7F-BCE3-25858CD79CC2").equals(uuid) : "Upper case UUID should parse";
+
+        // Malformed non-canonical text is rejected without parsing it
+        assert UUIDs.parse("") == null : "Empty text shouldn't parse";
+        assert UUIDs.parse("91ce6853-830a-4a7f-bce3") == null : "Truncated UUID shouldn't parse";
+        assert UUIDs.parse("91ce6853830a4a7fbce325858cd79cc2") == null : "UUID without hyphens shouldn't parse";
+        assert UUIDs.parse("1-2-3-4-5-6") == null : "UUID with too many groups shouldn't parse";
+        assert UUIDs.parse("123456789-2-3-4-5") == null : "UUID with too long a group shouldn't parse";
+        assert UUIDs.parse("1--3-4-5") == null : "UUID with an empty group shouldn't parse";
+        assert UUIDs.parse("not a uuid") == null : "Garbage shouldn't parse";
+    }
+
+}